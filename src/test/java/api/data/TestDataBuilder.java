@@ -3,13 +3,27 @@ package api.data;
 
 import api.models.Booking;
 import api.models.BookingDates;
+import data.RecordRandom;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 public class TestDataBuilder {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int DATE_WINDOW_DAYS = 366;
+
+    private static final String[] FIRST_NAMES = {"John", "Jane", "Michael", "Sarah", "David", "Emily", "James", "Emma", "Robert", "Lisa"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Martinez", "Taylor"};
+    private static final String[] ADDITIONAL_NEEDS = {"Breakfast", "Lunch", "Dinner", "Late checkout", "Parking"};
+
+    // seeded records are dated from a fixed day, so (seed, index) yields the same booking on any date
+    private static final DateWindow SEEDED_DATES = new DateWindow(LocalDate.of(2030, 1, 1));
+    private static volatile DateWindow dates = new DateWindow(LocalDate.now());
 
     public static Booking createDefaultBooking() {
         return Booking.builder()
@@ -18,8 +32,8 @@ public class TestDataBuilder {
                 .totalPrice(150)
                 .depositPaid(true)
                 .bookingDates(BookingDates.builder()
-                        .checkIn(LocalDate.now().plusDays(1).format(DATE_FORMATTER))
-                        .checkOut(LocalDate.now().plusDays(5).format(DATE_FORMATTER))
+                        .checkIn(daysFromToday(1))
+                        .checkOut(daysFromToday(5))
                         .build())
                 .additionalNeeds("Breakfast")
                 .build();
@@ -32,10 +46,83 @@ public class TestDataBuilder {
                 .totalPrice(price)
                 .depositPaid(true)
                 .bookingDates(BookingDates.builder()
-                        .checkIn(LocalDate.now().plusDays(1).format(DATE_FORMATTER))
-                        .checkOut(LocalDate.now().plusDays(5).format(DATE_FORMATTER))
+                        .checkIn(daysFromToday(1))
+                        .checkOut(daysFromToday(5))
                         .build())
                 .additionalNeeds("Breakfast")
                 .build();
     }
-}
\ No newline at end of file
+
+    public static Booking createRandomBooking() {
+        return createRandomBooking(RecordRandom.current());
+    }
+
+    /**
+     * Rebuilds record {@code index} of {@link #bookings(long)} for the same seed.
+     **/
+    public static Booking createBooking(long seed, long index) {
+        return createRandomBooking(RecordRandom.forRecord(seed, index), SEEDED_DATES);
+    }
+
+    /**
+     * Endless reproducible bookings; safe to consume in parallel since every record has its own generator.
+     **/
+    public static Stream<Booking> bookings(long seed) {
+        return LongStream.range(0, Long.MAX_VALUE)
+                .mapToObj(index -> createBooking(seed, index));
+    }
+
+    public static Booking createRandomBooking(RandomGenerator random) {
+        return createRandomBooking(random, today());
+    }
+
+    private static Booking createRandomBooking(RandomGenerator random, DateWindow window) {
+        int checkIn = 1 + random.nextInt(DATE_WINDOW_DAYS / 2);
+        return Booking.builder()
+                .firstName(RecordRandom.pick(random, FIRST_NAMES))
+                .lastName(RecordRandom.pick(random, LAST_NAMES))
+                .totalPrice(100 + random.nextInt(900))
+                .depositPaid(random.nextBoolean())
+                .bookingDates(BookingDates.builder()
+                        .checkIn(window.plusDays(checkIn))
+                        .checkOut(window.plusDays(checkIn + 1 + random.nextInt(14)))
+                        .build())
+                .additionalNeeds(RecordRandom.pick(random, ADDITIONAL_NEEDS))
+                .build();
+    }
+
+    /**
+     * Formatted dates are cached for a year ahead and rebuilt once the day rolls over.
+     **/
+    static String daysFromToday(int days) {
+        return today().plusDays(days);
+    }
+
+    private static DateWindow today() {
+        DateWindow window = dates;
+        if (System.currentTimeMillis() >= window.expiresAtMillis) {
+            window = new DateWindow(LocalDate.now());
+            dates = window;
+        }
+        return window;
+    }
+
+    private static final class DateWindow {
+
+        private final LocalDate start;
+        private final long expiresAtMillis;
+        private final String[] formatted = new String[DATE_WINDOW_DAYS];
+
+        private DateWindow(LocalDate start) {
+            this.start = start;
+            this.expiresAtMillis = start.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            for (int i = 0; i < DATE_WINDOW_DAYS; i++) {
+                formatted[i] = start.plusDays(i).format(DATE_FORMATTER);
+            }
+        }
+
+        private String plusDays(int days) {
+            return days >= 0 && days < DATE_WINDOW_DAYS ? formatted[days] : start.plusDays(days).format(DATE_FORMATTER);
+        }
+    }
+}
@@ -1,25 +1,122 @@
 package api.helpers;
 
+import api.metrics.ApiMetrics;
+import api.stub.BookingStubServer;
+import api.transport.ConditionalGetFilter;
+import api.transport.HttpClientPool;
+import api.transport.JdkHttpTransportFilter;
 import config.ConfigProvider;
 import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.filter.log.LogDetail;
 import io.restassured.filter.log.RequestLoggingFilter;
 import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 
+import java.net.http.HttpClient;
+
 public class ApiHelper {
 
-    private static final String BASE_URL = ConfigProvider.getConfig().apiBaseUrl();
+    private static final RestAssuredConfig REST_ASSURED_CONFIG = RestAssuredConfig.config()
+            .objectMapperConfig(ObjectMapperProvider.restAssuredConfig());
+
+    private static final ConditionalGetFilter CONDITIONAL_GET = ConfigProvider.getConfig().apiEtagCacheEnabled()
+            ? new ConditionalGetFilter(ConfigProvider.getConfig().apiEtagCacheSize())
+            : null;
+
+    private static volatile String baseUrl = resolveBaseUrl();
+    private static volatile boolean reportingEnabled = true;
 
     public static RequestSpecification getBaseSpec() {
-        return new RequestSpecBuilder()
-                .setBaseUri(BASE_URL)
-                .setContentType(ContentType.JSON)
-                .addFilter(new AllureRestAssured())
-                .addFilter(new RequestLoggingFilter(LogDetail.ALL))
-                .addFilter(new ResponseLoggingFilter(LogDetail.ALL))
-                .build();
+        return buildSpec(baseUrl, HttpClientPool.getInstance(), reportingEnabled, reportingEnabled);
+    }
+
+    /**
+     * Reporting spec for an explicit target and transport, e.g. an h2c stub regardless of {@code api.http.version}.
+     **/
+    public static RequestSpecification getBaseSpec(String url, HttpClientPool transport) {
+        return buildSpec(url, transport, true, true);
+    }
+
+    /**
+     * Timed like {@link #getBaseSpec()}, but without Allure and console logging. Meant for concurrent calls
+     * that share one Allure step, where the caller reports each item itself.
+     **/
+    public static RequestSpecification getMeteredSpec() {
+        return buildSpec(baseUrl, HttpClientPool.getInstance(), reportingEnabled, false);
+    }
+
+    /**
+     * Same target and content type as {@link #getBaseSpec()}, without Allure and console logging.
+     * Meant for housekeeping calls made outside of a test's reporting context.
+     **/
+    public static RequestSpecification getSilentSpec() {
+        return buildSpec(baseUrl, HttpClientPool.getInstance(), false, false);
+    }
+
+    /**
+     * JDK client speaking {@code api.http.version}, for calls that must stream the response body
+     * instead of buffering it like REST Assured does.
+     **/
+    public static HttpClient getHttpClient() {
+        return HttpClientPool.getInstance().next();
+    }
+
+    public static RestAssuredConfig getRestAssuredConfig() {
+        return REST_ASSURED_CONFIG;
+    }
+
+    private static RequestSpecification buildSpec(String url, HttpClientPool transport, boolean metered, boolean reporting) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setBaseUri(url)
+                .setConfig(REST_ASSURED_CONFIG)
+                .setContentType(ContentType.JSON);
+        if (CONDITIONAL_GET != null) {
+            builder.addFilter(CONDITIONAL_GET);
+        }
+        if (reporting) {
+            builder.addFilter(new AllureRestAssured())
+                    .addFilter(new RequestLoggingFilter(LogDetail.ALL))
+                    .addFilter(new ResponseLoggingFilter(LogDetail.ALL));
+        }
+        // Allure, the latency filter and the transport share LOWEST_PRECEDENCE and keep this insertion order,
+        // so attachment building is not timed and the terminal transport stays innermost
+        if (metered) {
+            builder.addFilter(ApiMetrics.filter());
+        }
+        if (transport.getVersion() == HttpClient.Version.HTTP_2) {
+            builder.addFilter(new JdkHttpTransportFilter(transport));
+        }
+        return builder.build();
+    }
+
+    private static String resolveBaseUrl() {
+        return ConfigProvider.getConfig().apiStubEnabled()
+                ? BookingStubServer.shared().getBaseUrl()
+                : ConfigProvider.getConfig().apiBaseUrl();
+    }
+
+    public static String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Redirects all step traffic to another target, e.g. an embedded stub server.
+     **/
+    public static void setBaseUrl(String url) {
+        baseUrl = url;
+    }
+
+    /**
+     * Allure and request/response logging filters dominate client-side cost under load, so load runs switch them off.
+     **/
+    public static void setReportingEnabled(boolean enabled) {
+        reportingEnabled = enabled;
+    }
+
+    public static boolean isReportingEnabled() {
+        return reportingEnabled;
     }
 }
@@ -0,0 +1,80 @@
+package api.helpers;
+
+import api.models.Booking;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import config.ConfigProvider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Optional, bounded LRU of booking JSON by id, filled from what the service returned on create and update.
+ * Lets read-after-write lookups skip the round trip; mutations that don't return the full booking evict the entry.
+ **/
+public final class BookingCache {
+
+    private static final int MAX_ENTRIES = ConfigProvider.getConfig().apiBookingCacheSize();
+
+    private static final Map<Integer, byte[]> ENTRIES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, byte[]> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private static volatile boolean enabled = ConfigProvider.getConfig().apiBookingCacheEnabled();
+
+    private BookingCache() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Switches the cache on or off for the whole run, e.g. for a test of the cached read path; entries are dropped.
+     **/
+    public static void setEnabled(boolean enable) {
+        synchronized (ENTRIES) {
+            ENTRIES.clear();
+            enabled = enable;
+        }
+    }
+
+    public static void put(Integer bookingId, Booking booking) {
+        if (!enabled || bookingId == null || booking == null) {
+            return;
+        }
+        byte[] json;
+        try {
+            json = ObjectMapperProvider.getMapper().writeValueAsBytes(booking);
+        } catch (JsonProcessingException e) {
+            evict(bookingId);
+            return;
+        }
+        synchronized (ENTRIES) {
+            ENTRIES.put(bookingId, json);
+        }
+    }
+
+    /**
+     * Cached booking JSON, or {@code null} when the cache is disabled or holds nothing for the id.
+     **/
+    public static byte[] get(Integer bookingId) {
+        if (!enabled) {
+            return null;
+        }
+        synchronized (ENTRIES) {
+            return ENTRIES.get(bookingId);
+        }
+    }
+
+    public static void evict(Integer bookingId) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (ENTRIES) {
+            ENTRIES.remove(bookingId);
+        }
+    }
+}
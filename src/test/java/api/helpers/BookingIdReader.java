@@ -0,0 +1,66 @@
+package api.helpers;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.IntConsumer;
+
+/**
+ * Reads a {@code GET /booking} body token by token, handing every id to a callback.
+ * Memory use does not depend on the list size, and the shape required by
+ * {@code schemas/booking-list-schema.json} (array of objects with an integer {@code bookingid}) is checked on the fly.
+ **/
+public final class BookingIdReader {
+
+    private static final String ID_FIELD = "bookingid";
+
+    private BookingIdReader() {
+    }
+
+    /**
+     * @return number of ids visited
+     **/
+    public static int read(InputStream body, IntConsumer visitor) throws IOException {
+        JsonFactory factory = ObjectMapperProvider.getMapper().getFactory();
+        try (JsonParser parser = factory.createParser(body)) {
+            expect(parser, parser.nextToken() == JsonToken.START_ARRAY, "root value must be an array");
+            int count = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                expect(parser, token == JsonToken.START_OBJECT, "item " + count + " must be an object");
+                visitor.accept(readId(parser, count));
+                count++;
+            }
+            expect(parser, parser.nextToken() == null, "unexpected content after the array");
+            return count;
+        }
+    }
+
+    private static int readId(JsonParser parser, int index) throws IOException {
+        boolean found = false;
+        int id = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (ID_FIELD.equals(field)) {
+                expect(parser, value == JsonToken.VALUE_NUMBER_INT, "item " + index + " bookingid must be an integer");
+                id = parser.getIntValue();
+                found = true;
+            } else {
+                parser.skipChildren();
+            }
+        }
+        expect(parser, found, "item " + index + " is missing required property bookingid");
+        return id;
+    }
+
+    private static void expect(JsonParser parser, boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError("Booking list does not match schema: " + message
+                    + " (at " + parser.currentLocation().offsetDescription() + ")");
+        }
+    }
+}
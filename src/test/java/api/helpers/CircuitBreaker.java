@@ -0,0 +1,104 @@
+package api.helpers;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Consecutive-failure circuit breaker for one API target. After {@code failureThreshold} failures in a row
+ * calls are rejected for {@code openMillis}; then a single probe decides whether to close again.
+ * Calls arriving while the probe is in flight wait for its outcome instead of failing.
+ **/
+@Slf4j
+public class CircuitBreaker {
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String target;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    public CircuitBreaker(String target, int failureThreshold, long openMillis) {
+        this(target, failureThreshold, openMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * {@code clock} supplies the current time in milliseconds, e.g. a fake one in tests.
+     **/
+    public CircuitBreaker(String target, int failureThreshold, long openMillis, LongSupplier clock) {
+        this.target = target;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Fails fast with {@link IllegalStateException} while the circuit is open. While half-open, waits up to
+     * {@code openMillis} for the probe: proceeds once it succeeded, fails if it failed, and takes over a probe that was released.
+     **/
+    public synchronized void acquire() {
+        long waitDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(openMillis);
+        while (true) {
+            if (state == State.CLOSED) {
+                return;
+            }
+            if (state == State.OPEN) {
+                long remaining = openedAt + openMillis - clock.getAsLong();
+                if (remaining > 0) {
+                    throw new IllegalStateException("Circuit open for " + target + " after " + consecutiveFailures
+                            + " consecutive failures, retrying in " + remaining + " ms");
+                }
+                state = State.HALF_OPEN;
+                return;
+            }
+            long waitMillis = TimeUnit.NANOSECONDS.toMillis(waitDeadline - System.nanoTime());
+            if (waitMillis <= 0) {
+                throw new IllegalStateException("Circuit half-open for " + target + ", probe call did not finish within "
+                        + openMillis + " ms");
+            }
+            try {
+                wait(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the probe call to " + target, e);
+            }
+        }
+    }
+
+    /**
+     * For an admitted call that was never sent: a pending half-open probe is handed back, so the next call probes instead.
+     **/
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+            notifyAll();
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Circuit closed for {}", target);
+            notifyAll();
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("Circuit opened for {} after {} consecutive failures", target, consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+            notifyAll();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package api.helpers;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Flushes deletions postponed by {@link CleanupRegistry} once the whole test plan has finished.
+ **/
+public class CleanupExtension implements BeforeAllCallback {
+
+    private static final String STORE_KEY = CleanupExtension.class.getName();
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getRoot()
+                .getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(STORE_KEY, key -> (ExtensionContext.Store.CloseableResource) CleanupRegistry::flushDeferred);
+    }
+}
@@ -0,0 +1,173 @@
+package api.helpers;
+
+import api.steps.AuthenticateSteps;
+import api.steps.BookingSteps;
+import config.ConfigProvider;
+import io.qameta.allure.Allure;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * Collects ids of resources created by a test and deletes them concurrently with bounded parallelism.
+ * Failed deletes are retried and then reported in the log and the Allure report instead of being swallowed.
+ * With {@code api.cleanup.deferred=true} deletion is postponed to the end of the suite, see {@link CleanupExtension}.
+ **/
+@Slf4j
+public class CleanupRegistry {
+
+    private static final Queue<PendingDeletion> DEFERRED = new ConcurrentLinkedQueue<>();
+    private static final long RETRY_BACKOFF_MS = 200;
+
+    private final String resourceType;
+    private final Deleter deleter;
+    private final Queue<PendingDeletion> pending = new ConcurrentLinkedQueue<>();
+
+    @FunctionalInterface
+    public interface Deleter {
+
+        /**
+         * @return true when the resource is gone, including when it had already been deleted
+         **/
+        boolean delete(Integer id, String token);
+    }
+
+    public CleanupRegistry(String resourceType, Deleter deleter) {
+        this.resourceType = resourceType;
+        this.deleter = deleter;
+    }
+
+    public static CleanupRegistry forBookings() {
+        BookingSteps steps = new BookingSteps();
+        return new CleanupRegistry("booking", (id, token) -> {
+            int status = steps.deleteBookingSilently(id, token).getStatusCode();
+            // Restful-Booker answers 405 for ids that no longer exist
+            return status == 201 || status == 404 || status == 405;
+        });
+    }
+
+    /**
+     * Remembers the id together with the caller's auth token, so it can be deleted from any thread later on.
+     **/
+    public void track(Integer id) {
+        if (id != null) {
+            pending.add(new PendingDeletion(this, id, AuthenticateSteps.currentToken()));
+        }
+    }
+
+    public void cleanUp() {
+        List<PendingDeletion> batch = drain(pending);
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (ConfigProvider.getConfig().cleanupDeferred()) {
+            DEFERRED.addAll(batch);
+            return;
+        }
+        List<PendingDeletion> failed = deleteAll(batch);
+        if (!failed.isEmpty()) {
+            Allure.addAttachment("Cleanup failures", "text/plain", describe(failed));
+        }
+    }
+
+    /**
+     * Deletes everything postponed by deferred registries. Called once at suite end.
+     **/
+    static void flushDeferred() {
+        List<PendingDeletion> batch = drain(DEFERRED);
+        if (!batch.isEmpty()) {
+            log.info("Deleting {} deferred resources", batch.size());
+            deleteAll(batch);
+        }
+    }
+
+    private static List<PendingDeletion> deleteAll(List<PendingDeletion> batch) {
+        Semaphore permits = new Semaphore(ConfigProvider.getConfig().cleanupParallelism());
+        int attempts = ConfigProvider.getConfig().cleanupRetries() + 1;
+        Queue<PendingDeletion> failed = new ConcurrentLinkedQueue<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (PendingDeletion deletion : batch) {
+                executor.submit(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        if (!deletion.attempt(attempts)) {
+                            failed.add(deletion);
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+
+        if (!failed.isEmpty()) {
+            log.warn("Cleanup left {} of {} resources behind: {}", failed.size(), batch.size(), describe(failed));
+        }
+        return new ArrayList<>(failed);
+    }
+
+    private static List<PendingDeletion> drain(Queue<PendingDeletion> queue) {
+        List<PendingDeletion> batch = new ArrayList<>();
+        PendingDeletion next;
+        while ((next = queue.poll()) != null) {
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private static String describe(Collection<PendingDeletion> deletions) {
+        return deletions.stream()
+                .map(PendingDeletion::toString)
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    private static final class PendingDeletion {
+
+        private final CleanupRegistry owner;
+        private final Integer id;
+        private final String token;
+        private String lastError = "not attempted";
+
+        private PendingDeletion(CleanupRegistry owner, Integer id, String token) {
+            this.owner = owner;
+            this.id = id;
+            this.token = token;
+        }
+
+        private boolean attempt(int attempts) {
+            for (int attempt = 1; attempt <= attempts; attempt++) {
+                try {
+                    if (owner.deleter.delete(id, token)) {
+                        return true;
+                    }
+                    lastError = "rejected by server";
+                } catch (RuntimeException e) {
+                    lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+                }
+                if (attempt < attempts) {
+                    try {
+                        Thread.sleep(RETRY_BACKOFF_MS * attempt);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return owner.resourceType + " " + id + " (" + lastError + ")";
+        }
+    }
+}
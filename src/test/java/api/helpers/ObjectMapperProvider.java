@@ -0,0 +1,75 @@
+package api.helpers;
+
+import api.models.AuthRequest;
+import api.models.AuthResponse;
+import api.models.Booking;
+import api.models.BookingDates;
+import api.models.BookingId;
+import api.models.BookingResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import config.ConfigProvider;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.mapper.ObjectMapperType;
+import io.restassured.path.json.mapper.factory.Jackson2ObjectMapperFactory;
+
+import java.util.List;
+
+/**
+ * Single, pre-configured {@link ObjectMapper} shared by REST Assured, the stub server and streaming readers.
+ * Serializers for the API models are built once at startup; with {@code api.json.blackbird.enabled=true}
+ * bean accessors are replaced by generated lambdas instead of reflection.
+ **/
+public final class ObjectMapperProvider {
+
+    private static final List<Class<?>> MODELS = List.of(
+            Booking.class,
+            BookingDates.class,
+            BookingResponse.class,
+            BookingId.class,
+            AuthRequest.class,
+            AuthResponse.class
+    );
+
+    private static final ObjectMapper MAPPER = newMapper(ConfigProvider.getConfig().jsonBlackbirdEnabled());
+
+    private ObjectMapperProvider() {
+    }
+
+    public static ObjectMapper getMapper() {
+        return MAPPER;
+    }
+
+    public static ObjectMapperConfig restAssuredConfig() {
+        Jackson2ObjectMapperFactory factory = (type, charset) -> MAPPER;
+        return ObjectMapperConfig.objectMapperConfig()
+                .defaultObjectMapperType(ObjectMapperType.JACKSON_2)
+                .jackson2ObjectMapperFactory(factory);
+    }
+
+    /**
+     * A separate mapper configured like the shared one, with or without Blackbird, e.g. to compare both setups.
+     **/
+    public static ObjectMapper newMapper(boolean blackbird) {
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .addModule(new JavaTimeModule());
+        if (blackbird) {
+            builder.addModule(new BlackbirdModule());
+        }
+        ObjectMapper mapper = builder.build();
+        warmUp(mapper);
+        return mapper;
+    }
+
+    private static void warmUp(ObjectMapper mapper) {
+        for (Class<?> model : MODELS) {
+            mapper.canSerialize(model);
+            mapper.canDeserialize(mapper.constructType(model));
+        }
+        JavaType bookingIdList = mapper.getTypeFactory().constructCollectionType(List.class, BookingId.class);
+        mapper.canDeserialize(bookingIdList);
+    }
+}
@@ -0,0 +1,237 @@
+package api.helpers;
+
+import config.ConfigProvider;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.NoHttpResponseException;
+import org.apache.http.conn.ConnectTimeoutException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Runs step requests behind a per-target {@link CircuitBreaker} and {@link TrafficGovernor}.
+ * Idempotent requests are also retried on connection errors, timeouts and 429/502/503/504, with full-jitter exponential
+ * backoff ({@code test.retry.count} retries), so a network blip costs one request instead of a whole re-run test.
+ **/
+@Slf4j
+public final class RequestExecutor {
+
+    private static final Map<String, CircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+    private static final Map<String, TrafficGovernor> GOVERNORS = new ConcurrentHashMap<>();
+    // SocketException covers ConnectException and connection resets; HttpTimeoutException the JDK client's timeouts
+    private static final List<Class<? extends IOException>> TRANSIENT_ERRORS = List.of(
+            SocketException.class,
+            SocketTimeoutException.class,
+            HttpTimeoutException.class,
+            ConnectTimeoutException.class,
+            NoHttpResponseException.class);
+
+    private static volatile boolean governed = ConfigProvider.getConfig().apiGovernorEnabled();
+    private static volatile boolean retrying = true;
+
+    private RequestExecutor() {
+    }
+
+    /**
+     * For GET, PUT, DELETE and other calls that are safe to repeat.
+     **/
+    public static Response idempotent(Supplier<Response> request) {
+        return idempotent(request, Response::getStatusCode, response -> response.getHeader("Retry-After"), response -> {
+        });
+    }
+
+    /**
+     * {@link #idempotent(Supplier)} for JDK client calls that stream the body; a response that is retried is closed.
+     **/
+    public static HttpResponse<InputStream> idempotentStream(Supplier<HttpResponse<InputStream>> request) {
+        return idempotent(request, HttpResponse::statusCode,
+                response -> response.headers().firstValue("Retry-After").orElse(null),
+                RequestExecutor::discard);
+    }
+
+    private static <T> T idempotent(Supplier<T> request, ToIntFunction<T> status, Function<T, String> retryAfter,
+                                    Consumer<T> discard) {
+        int retries = retrying ? ConfigProvider.getConfig().retryCount() : 0;
+        for (int attempt = 0; ; attempt++) {
+            T response;
+            try {
+                response = once(request, status);
+            } catch (Throwable e) {
+                // REST Assured sneaky-throws checked IOExceptions (connect, timeout) through Groovy
+                if (attempt >= retries || !isTransient(e)) {
+                    throw e;
+                }
+                log.warn("Request failed ({}), retry {}/{}", e.getMessage(), attempt + 1, retries);
+                backOff(attempt, null);
+                continue;
+            }
+            int code = status.applyAsInt(response);
+            if (attempt >= retries || !isRetryable(code)) {
+                return response;
+            }
+            log.warn("Request returned {}, retry {}/{}", code, attempt + 1, retries);
+            String delay = retryAfter.apply(response);
+            discard.accept(response);
+            backOff(attempt, delay);
+        }
+    }
+
+    /**
+     * For POST, PATCH and other calls that must not be sent twice; only the circuit breaker applies.
+     **/
+    public static Response once(Supplier<Response> request) {
+        return once(request, Response::getStatusCode);
+    }
+
+    private static <T> T once(Supplier<T> request, ToIntFunction<T> statusOf) {
+        String target = ApiHelper.getBaseUrl();
+        CircuitBreaker breaker = breaker(target);
+        breaker.acquire();
+        TrafficGovernor governor = governor(target);
+        if (governor != null) {
+            try {
+                governor.acquire();
+            } catch (InterruptedException e) {
+                breaker.release();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a request slot", e);
+            } catch (Throwable e) {
+                breaker.release();
+                throw e;
+            }
+        }
+        int status = 0;
+        boolean healthy = false;
+        try {
+            T response = request.get();
+            status = statusOf.applyAsInt(response);
+            healthy = !isUnavailable(status);
+            return response;
+        } catch (Throwable e) {
+            healthy = !isTransient(e);
+            throw e;
+        } finally {
+            // every admitted call, the half-open probe included, must report back to the breaker
+            if (healthy) {
+                breaker.onSuccess();
+            } else {
+                breaker.onFailure();
+            }
+            if (governor != null) {
+                governor.release(status);
+            }
+        }
+    }
+
+    /**
+     * Load runs generate their own, deliberately shaped traffic and switch throttling off.
+     **/
+    public static void setGoverned(boolean enabled) {
+        governed = enabled;
+    }
+
+    public static boolean isGoverned() {
+        return governed;
+    }
+
+    /**
+     * Load runs measure single requests; a retried call would show up as one slow sample.
+     **/
+    public static void setRetrying(boolean enabled) {
+        retrying = enabled;
+    }
+
+    public static boolean isRetrying() {
+        return retrying;
+    }
+
+    private static CircuitBreaker breaker(String target) {
+        return BREAKERS.computeIfAbsent(target, url -> new CircuitBreaker(url,
+                ConfigProvider.getConfig().apiCircuitFailureThreshold(),
+                ConfigProvider.getConfig().apiCircuitOpenMillis()));
+    }
+
+    /**
+     * {@code api.governor.overrides} entries look like {@code <baseUrl>|<requests per second>|<max in flight>}.
+     **/
+    private static TrafficGovernor governor(String target) {
+        if (!governed) {
+            return null;
+        }
+        return GOVERNORS.computeIfAbsent(target, url -> {
+            double rate = ConfigProvider.getConfig().apiRateLimitPerSecond();
+            int maxInFlight = ConfigProvider.getConfig().apiMaxInFlight();
+            String[] overrides = ConfigProvider.getConfig().apiGovernorOverrides();
+            for (String override : overrides == null ? new String[0] : overrides) {
+                String[] parts = override.trim().split("\\|");
+                if (parts.length == 3 && parts[0].equals(url)) {
+                    rate = Double.parseDouble(parts[1]);
+                    maxInFlight = Integer.parseInt(parts[2]);
+                }
+            }
+            return new TrafficGovernor(url, rate, maxInFlight);
+        });
+    }
+
+    private static void discard(HttpResponse<InputStream> response) {
+        try (InputStream body = response.body()) {
+            body.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            // the connection is dropped instead of reused
+        }
+    }
+
+    /**
+     * Connection failures and timeouts only; other IOExceptions, e.g. Jackson's for a malformed body,
+     * come back the same on a retry and say nothing about the target's health.
+     **/
+    private static boolean isTransient(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            for (Class<? extends IOException> type : TRANSIENT_ERRORS) {
+                if (type.isInstance(cause)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRetryable(int status) {
+        return status == 429 || isUnavailable(status);
+    }
+
+    private static boolean isUnavailable(int status) {
+        return status == 502 || status == 503 || status == 504;
+    }
+
+    private static void backOff(int attempt, String retryAfter) {
+        long maxDelay = ConfigProvider.getConfig().apiRetryMaxDelayMillis();
+        long delay;
+        if (retryAfter != null && !retryAfter.isEmpty() && retryAfter.chars().allMatch(Character::isDigit)) {
+            delay = Math.min(Long.parseLong(retryAfter) * 1000, maxDelay);
+        } else {
+            long ceiling = Math.min(maxDelay, ConfigProvider.getConfig().apiRetryBaseDelayMillis() << Math.min(attempt, 20));
+            delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off", e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package api.helpers;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Throttles step traffic to one API target: a token bucket caps the request rate and an in-flight limit caps
+ * concurrency. Both start at their configured maximum and follow AIMD: every throttling answer (429/503) halves
+ * them, at most once per second, and successful responses grow them back by roughly one unit per round.
+ **/
+@Slf4j
+public class TrafficGovernor {
+
+    private static final long DECREASE_COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final double MIN_RATE = 1.0;
+
+    private final String target;
+    private final double maxRate;
+    private final int maxInFlight;
+    private final LongSupplier nanoClock;
+
+    private final Object bucketLock = new Object();
+    private double rate;
+    private double tokens;
+    private long lastRefill;
+
+    private final Object inFlightLock = new Object();
+    private double inFlightLimit;
+    private int inFlight;
+    private long lastDecrease;
+
+    public TrafficGovernor(String target, double maxRate, int maxInFlight) {
+        this(target, maxRate, maxInFlight, System::nanoTime);
+    }
+
+    /**
+     * {@code nanoClock} is read like {@link System#nanoTime()}, e.g. a fake one in tests.
+     **/
+    public TrafficGovernor(String target, double maxRate, int maxInFlight, LongSupplier nanoClock) {
+        this.target = target;
+        this.maxRate = maxRate;
+        this.maxInFlight = maxInFlight;
+        this.nanoClock = nanoClock;
+        this.rate = maxRate;
+        this.tokens = Math.max(1, maxRate);
+        this.inFlightLimit = maxInFlight;
+        this.lastRefill = nanoClock.getAsLong();
+        // nanoTime has an arbitrary origin, so the first throttling answer must not depend on it
+        this.lastDecrease = lastRefill - DECREASE_COOLDOWN_NANOS;
+    }
+
+    /**
+     * Blocks until both a concurrency slot and a rate token are available. Must be paired with {@link #release(int)}.
+     **/
+    public void acquire() throws InterruptedException {
+        synchronized (inFlightLock) {
+            while (inFlight >= (int) inFlightLimit) {
+                inFlightLock.wait();
+            }
+            inFlight++;
+        }
+        long waitNanos = reserveToken();
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                release(0);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Frees the slot taken by {@link #acquire()} and feeds the response status (0 if none) into the AIMD loop.
+     **/
+    public void release(int status) {
+        boolean throttled = status == 429 || status == 503;
+        synchronized (inFlightLock) {
+            inFlight--;
+            if (throttled) {
+                long now = nanoClock.getAsLong();
+                if (now - lastDecrease >= DECREASE_COOLDOWN_NANOS) {
+                    lastDecrease = now;
+                    inFlightLimit = Math.max(1, inFlightLimit / 2);
+                    synchronized (bucketLock) {
+                        rate = Math.max(MIN_RATE, rate / 2);
+                    }
+                    log.warn("{} answered {}, backing off to {} req/s and {} in flight", target, status,
+                            String.format("%.1f", currentRate()), (int) inFlightLimit);
+                }
+            } else if (status > 0) {
+                inFlightLimit = Math.min(maxInFlight, inFlightLimit + 1 / inFlightLimit);
+                synchronized (bucketLock) {
+                    rate = Math.min(maxRate, rate + 1 / rate);
+                }
+            }
+            inFlightLock.notifyAll();
+        }
+    }
+
+    public double currentRate() {
+        synchronized (bucketLock) {
+            return rate;
+        }
+    }
+
+    public double currentInFlightLimit() {
+        synchronized (inFlightLock) {
+            return inFlightLimit;
+        }
+    }
+
+    /**
+     * Takes one token, letting the balance go negative; a negative balance is the queue in front of this caller.
+     **/
+    private long reserveToken() {
+        synchronized (bucketLock) {
+            long now = nanoClock.getAsLong();
+            tokens = Math.min(Math.max(1, rate), tokens + (now - lastRefill) * rate / 1e9);
+            lastRefill = now;
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) (-tokens / rate * 1e9);
+        }
+    }
+}
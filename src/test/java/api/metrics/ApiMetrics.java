@@ -0,0 +1,97 @@
+package api.metrics;
+
+import api.helpers.ObjectMapperProvider;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Latency of every reported API call, kept suite-wide and for the test currently running on the thread.
+ * The per-test recorder is bound by {@link ApiMetricsExtension} and inherited by threads the test starts, e.g. bulk workers.
+ **/
+public final class ApiMetrics {
+
+    private static final LatencyRecorder SUITE = new LatencyRecorder();
+    private static final ThreadLocal<LatencyRecorder> CURRENT_TEST = new InheritableThreadLocal<>();
+    private static final LatencyFilter FILTER = new LatencyFilter(ApiMetrics::record);
+
+    private ApiMetrics() {
+    }
+
+    public static LatencyFilter filter() {
+        return FILTER;
+    }
+
+    public static LatencyRecorder suite() {
+        return SUITE;
+    }
+
+    static void record(String endpoint, long durationNanos, boolean failed) {
+        SUITE.record(endpoint, durationNanos, failed);
+        LatencyRecorder test = CURRENT_TEST.get();
+        if (test != null) {
+            test.record(endpoint, durationNanos, failed);
+        }
+    }
+
+    static LatencyRecorder startTest() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        CURRENT_TEST.set(recorder);
+        return recorder;
+    }
+
+    static LatencyRecorder currentTest() {
+        return CURRENT_TEST.get();
+    }
+
+    static void endTest() {
+        CURRENT_TEST.remove();
+    }
+
+    /**
+     * Percentiles in milliseconds per endpoint, in the shape used for Allure attachments and the suite export.
+     **/
+    static Map<String, Map<String, Object>> summarize(LatencyRecorder recorder) {
+        Map<String, Map<String, Object>> summary = new LinkedHashMap<>();
+        recorder.snapshot().forEach((endpoint, histogram) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("count", histogram.getTotalCount());
+            row.put("errors", recorder.errorCount(endpoint));
+            row.put("p50", millis(histogram, 50));
+            row.put("p95", millis(histogram, 95));
+            row.put("p99", millis(histogram, 99));
+            row.put("max", histogram.getMaxValue() / 1000.0);
+            summary.put(endpoint, row);
+        });
+        return summary;
+    }
+
+    static String toJson(LatencyRecorder recorder) {
+        try {
+            return ObjectMapperProvider.getMapper().writerWithDefaultPrettyPrinter().writeValueAsString(summarize(recorder));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to serialize latency summary", e);
+        }
+    }
+
+    static void exportSuite(Path file) {
+        if (SUITE.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, toJson(SUITE));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write API latency report to " + file, e);
+        }
+    }
+
+    static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
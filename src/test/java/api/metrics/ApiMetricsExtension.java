@@ -0,0 +1,88 @@
+package api.metrics;
+
+import config.ConfigProvider;
+import io.qameta.allure.Allure;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records API latency per test, attaches it to Allure and enforces {@link MaxLatency} budgets.
+ * The suite-wide histograms are exported to {@code api.metrics.report.dir} once the test plan finishes.
+ **/
+public class ApiMetricsExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+
+    private static final String STORE_KEY = ApiMetricsExtension.class.getName();
+
+    private final boolean enforceBudgets;
+
+    public ApiMetricsExtension() {
+        this(ConfigProvider.getConfig().apiSlaEnabled());
+    }
+
+    /**
+     * {@code enforceBudgets} overrides {@code api.sla.enabled}, e.g. for {@code @RegisterExtension} fields.
+     **/
+    public ApiMetricsExtension(boolean enforceBudgets) {
+        this.enforceBudgets = enforceBudgets;
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        Path report = Path.of(ConfigProvider.getConfig().apiMetricsReportDir(), "api-latency.json");
+        context.getRoot()
+                .getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(STORE_KEY, key -> (ExtensionContext.Store.CloseableResource) () -> ApiMetrics.exportSuite(report));
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        ApiMetrics.startTest();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        LatencyRecorder recorder = ApiMetrics.currentTest();
+        ApiMetrics.endTest();
+        if (recorder == null || recorder.isEmpty()) {
+            return;
+        }
+        Allure.addAttachment("API latency (ms)", "application/json", ApiMetrics.toJson(recorder), ".json");
+
+        if (!enforceBudgets) {
+            return;
+        }
+        List<MaxLatency> budgets = new ArrayList<>(
+                AnnotationSupport.findRepeatableAnnotations(context.getRequiredTestClass(), MaxLatency.class));
+        budgets.addAll(AnnotationSupport.findRepeatableAnnotations(context.getRequiredTestMethod(), MaxLatency.class));
+        List<String> violations = new ArrayList<>();
+        Map<String, Histogram> histograms = recorder.snapshot();
+        for (MaxLatency budget : budgets) {
+            histograms.forEach((endpoint, histogram) -> {
+                if (budget.endpoint().isEmpty() || budget.endpoint().equals(endpoint)) {
+                    check(violations, endpoint, "p50", ApiMetrics.millis(histogram, 50), budget.p50());
+                    check(violations, endpoint, "p95", ApiMetrics.millis(histogram, 95), budget.p95());
+                    check(violations, endpoint, "p99", ApiMetrics.millis(histogram, 99), budget.p99());
+                    check(violations, endpoint, "max", histogram.getMaxValue() / 1000.0, budget.max());
+                }
+            });
+        }
+        if (!violations.isEmpty()) {
+            throw new AssertionError("API latency budget exceeded:\n" + String.join("\n", violations));
+        }
+    }
+
+    private static void check(List<String> violations, String endpoint, String statistic, double actualMillis, long limitMillis) {
+        if (limitMillis >= 0 && actualMillis > limitMillis) {
+            violations.add(String.format("  %s %s = %.2f ms > %d ms", endpoint, statistic, actualMillis, limitMillis));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package api.metrics;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.util.regex.Pattern;
+
+/**
+ * Times every request and reports it under "METHOD /path/{id}". Shares {@code LOWEST_PRECEDENCE} with
+ * {@code AllureRestAssured} and is added after it, so only the transport runs inside the measured time;
+ * logging filters sit at the default order and run outside it too.
+ **/
+public class LatencyFilter implements OrderedFilter {
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final Sink sink;
+
+    public LatencyFilter(Sink sink) {
+        this.sink = sink;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String endpoint = endpointKey(requestSpec.getMethod(), requestSpec.getURI());
+        long start = System.nanoTime();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            sink.record(endpoint, System.nanoTime() - start, response.getStatusCode() >= 400);
+            return response;
+        } catch (Throwable e) {
+            // includes undeclared IOExceptions from the transport; record every failed call
+            sink.record(endpoint, System.nanoTime() - start, true);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    static String endpointKey(String method, String uri) {
+        String path = URI.create(uri).getPath();
+        return method + " " + NUMERIC_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    @FunctionalInterface
+    public interface Sink {
+
+        void record(String endpoint, long durationNanos, boolean failed);
+    }
+}
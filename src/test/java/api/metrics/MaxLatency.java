@@ -0,0 +1,39 @@
+package api.metrics;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Latency budget in milliseconds for the API calls made by a test, e.g. {@code @MaxLatency(p95 = 200)}.
+ * Applies to every endpoint unless {@link #endpoint()} names one ("GET /booking/{id}"); unset limits are not checked.
+ * On a class it applies to every test method.
+ **/
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(MaxLatency.List.class)
+@ExtendWith(ApiMetricsExtension.class)
+public @interface MaxLatency {
+
+    String endpoint() default "";
+
+    long p50() default -1;
+
+    long p95() default -1;
+
+    long p99() default -1;
+
+    long max() default -1;
+
+    @Target({ElementType.TYPE, ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @ExtendWith(ApiMetricsExtension.class)
+    @interface List {
+
+        MaxLatency[] value();
+    }
+}
@@ -0,0 +1,20 @@
+package api.models;
+
+import lombok.Value;
+
+/**
+ * Outcome of one item of a bulk call: its position in the input, the HTTP status
+ * (0 when no response arrived) and either the parsed body or an error description.
+ **/
+@Value
+public class BulkResult<T> {
+
+    int index;
+    int status;
+    T body;
+    String error;
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
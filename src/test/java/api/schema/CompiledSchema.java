@@ -0,0 +1,70 @@
+package api.schema;
+
+import api.helpers.ObjectMapperProvider;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable, thread-safe pair of validators for one schema file.
+ **/
+public class CompiledSchema {
+
+    private final String name;
+    private final JsonSchema fullValidator;
+    private final StreamingSchema streamingValidator;
+
+    CompiledSchema(String name, JsonSchema fullValidator, StreamingSchema streamingValidator) {
+        this.name = name;
+        this.fullValidator = fullValidator;
+        this.streamingValidator = streamingValidator;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean supportsStreaming() {
+        return streamingValidator != null;
+    }
+
+    /**
+     * @return validation errors, empty when the document matches
+     **/
+    public List<String> validate(String json, ValidationMode mode) {
+        try {
+            return mode == ValidationMode.STREAMING && supportsStreaming()
+                    ? validateStreaming(json)
+                    : validateFull(json);
+        } catch (IOException e) {
+            return List.of("$: not valid JSON: " + e.getMessage());
+        }
+    }
+
+    private List<String> validateStreaming(String json) throws IOException {
+        try (JsonParser parser = ObjectMapperProvider.getMapper().getFactory().createParser(json)) {
+            return streamingValidator.validate(parser);
+        }
+    }
+
+    private List<String> validateFull(String json) throws IOException {
+        JsonNode document = ObjectMapperProvider.getMapper().readTree(json);
+        List<String> errors = new ArrayList<>();
+        try {
+            ProcessingReport report = fullValidator.validate(document);
+            for (ProcessingMessage message : report) {
+                errors.add(message.getMessage());
+            }
+            return report.isSuccess() ? List.of() : errors;
+        } catch (ProcessingException e) {
+            return List.of(e.getMessage());
+        }
+    }
+}
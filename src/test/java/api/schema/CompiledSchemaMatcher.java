@@ -0,0 +1,46 @@
+package api.schema;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.util.List;
+
+class CompiledSchemaMatcher extends TypeSafeMatcher<String> {
+
+    private final CompiledSchema schema;
+    private final ValidationMode mode;
+    private String lastJson;
+    private List<String> lastErrors;
+
+    CompiledSchemaMatcher(CompiledSchema schema, ValidationMode mode) {
+        this.schema = schema;
+        this.mode = mode;
+    }
+
+    @Override
+    protected boolean matchesSafely(String json) {
+        return validate(json).isEmpty();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("JSON matching schema ").appendValue(schema.getName());
+    }
+
+    @Override
+    protected void describeMismatchSafely(String json, Description description) {
+        List<String> errors = validate(json);
+        description.appendText("schema violations: ").appendValueList("[", ", ", "]", errors);
+    }
+
+    /**
+     * Hamcrest calls {@code matches} and then {@code describeMismatch} with the same body; validate it only once.
+     **/
+    private List<String> validate(String json) {
+        if (lastErrors == null || !json.equals(lastJson)) {
+            lastErrors = schema.validate(json, mode);
+            lastJson = json;
+        }
+        return lastErrors;
+    }
+}
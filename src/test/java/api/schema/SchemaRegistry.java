@@ -0,0 +1,100 @@
+package api.schema;
+
+import api.helpers.ObjectMapperProvider;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import config.ConfigProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hamcrest.Matcher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Loads and compiles every schema under {@code schemas/} on the classpath once per JVM.
+ * Compiled schemas are immutable and shared by all test threads.
+ **/
+@Slf4j
+public final class SchemaRegistry {
+
+    private static final String SCHEMA_ROOT = "schemas";
+
+    private static final Map<String, CompiledSchema> SCHEMAS = loadAll();
+
+    private SchemaRegistry() {
+    }
+
+    /**
+     * @param name file name relative to {@code schemas/}, with or without the {@code schemas/} prefix
+     **/
+    public static CompiledSchema get(String name) {
+        String key = name.startsWith(SCHEMA_ROOT + "/") ? name.substring(SCHEMA_ROOT.length() + 1) : name;
+        CompiledSchema schema = SCHEMAS.get(key);
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown schema: " + name + ", available: " + SCHEMAS.keySet());
+        }
+        return schema;
+    }
+
+    /**
+     * REST Assured body matcher using the configured {@code api.schema.validation.mode}.
+     **/
+    public static Matcher<String> matches(String name) {
+        return matches(name, ConfigProvider.getConfig().schemaValidationMode());
+    }
+
+    public static Matcher<String> matches(String name, ValidationMode mode) {
+        return new CompiledSchemaMatcher(get(name), mode);
+    }
+
+    private static Map<String, CompiledSchema> loadAll() {
+        URL root = SchemaRegistry.class.getClassLoader().getResource(SCHEMA_ROOT);
+        if (root == null) {
+            log.warn("No '{}' directory on the classpath, schema registry is empty", SCHEMA_ROOT);
+            return Map.of();
+        }
+        try {
+            URI uri = root.toURI();
+            if ("jar".equals(uri.getScheme())) {
+                try (FileSystem jar = FileSystems.newFileSystem(uri, Map.of())) {
+                    return compileAll(jar.getPath(SCHEMA_ROOT));
+                }
+            }
+            return compileAll(Path.of(uri));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load schemas from " + root, e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Invalid schema location " + root, e);
+        }
+    }
+
+    private static Map<String, CompiledSchema> compileAll(Path directory) throws IOException {
+        JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+        Map<String, CompiledSchema> schemas = new HashMap<>();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.filter(path -> path.toString().endsWith(".json"))::iterator) {
+                String name = directory.relativize(file).toString().replace('\\', '/');
+                JsonNode node = ObjectMapperProvider.getMapper().readTree(Files.readAllBytes(file));
+                try {
+                    schemas.put(name, new CompiledSchema(name, factory.getJsonSchema(node), StreamingSchema.compile(node)));
+                } catch (ProcessingException e) {
+                    throw new IllegalStateException("Invalid JSON schema " + name + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        log.info("Compiled {} JSON schemas: {}", schemas.size(), List.copyOf(schemas.keySet()));
+        return Map.copyOf(schemas);
+    }
+}
@@ -0,0 +1,188 @@
+package api.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Single-pass validator for the simple schema subset used by our contracts:
+ * {@code type}, {@code properties}, {@code required}, {@code items} and boolean {@code additionalProperties}.
+ * Validation walks parser events once and never builds a tree of the document.
+ **/
+final class StreamingSchema {
+
+    private static final Set<String> ANNOTATIONS = Set.of("$schema", "$id", "title", "description");
+    private static final int MAX_ERRORS = 20;
+
+    private final Set<String> types = new HashSet<>();
+    private final Map<String, StreamingSchema> properties = new HashMap<>();
+    private final Set<String> required = new HashSet<>();
+    private StreamingSchema items;
+    private boolean additionalProperties = true;
+
+    private StreamingSchema() {
+    }
+
+    /**
+     * @return compiled validator, or null when the schema uses keywords outside the supported subset
+     **/
+    static StreamingSchema compile(JsonNode schema) {
+        if (!schema.isObject()) {
+            return null;
+        }
+        StreamingSchema compiled = new StreamingSchema();
+        Iterator<Map.Entry<String, JsonNode>> fields = schema.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            switch (field.getKey()) {
+                case "type" -> {
+                    if (value.isTextual()) {
+                        compiled.types.add(value.asText());
+                    } else if (value.isArray()) {
+                        value.forEach(type -> compiled.types.add(type.asText()));
+                    } else {
+                        return null;
+                    }
+                }
+                case "properties" -> {
+                    Iterator<Map.Entry<String, JsonNode>> properties = value.fields();
+                    while (properties.hasNext()) {
+                        Map.Entry<String, JsonNode> property = properties.next();
+                        StreamingSchema child = compile(property.getValue());
+                        if (child == null) {
+                            return null;
+                        }
+                        compiled.properties.put(property.getKey(), child);
+                    }
+                }
+                case "required" -> value.forEach(name -> compiled.required.add(name.asText()));
+                case "items" -> {
+                    compiled.items = compile(value);
+                    if (compiled.items == null) {
+                        return null;
+                    }
+                }
+                case "additionalProperties" -> {
+                    if (!value.isBoolean()) {
+                        return null;
+                    }
+                    compiled.additionalProperties = value.asBoolean();
+                }
+                default -> {
+                    if (!ANNOTATIONS.contains(field.getKey())) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return compiled;
+    }
+
+    List<String> validate(JsonParser parser) throws IOException {
+        List<String> errors = new ArrayList<>();
+        JsonToken first = parser.nextToken();
+        if (first == null) {
+            errors.add("$: document is empty");
+            return errors;
+        }
+        validate(parser, "$", errors);
+        // a valid document is exactly one value; anything after the root is rejected like a parse error would be
+        JsonToken trailing = parser.nextToken();
+        if (trailing != null) {
+            errors.add("$: unexpected " + describe(trailing) + " after the root value");
+        }
+        return errors;
+    }
+
+    private void validate(JsonParser parser, String path, List<String> errors) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (!types.isEmpty() && !matchesType(parser, token)) {
+            report(errors, path + ": expected " + types + " but found " + describe(token));
+            parser.skipChildren();
+            return;
+        }
+        if (token == JsonToken.START_OBJECT) {
+            validateObject(parser, path, errors);
+        } else if (token == JsonToken.START_ARRAY) {
+            validateArray(parser, path, errors);
+        }
+    }
+
+    private void validateObject(JsonParser parser, String path, List<String> errors) throws IOException {
+        Set<String> missing = required.isEmpty() ? Set.of() : new HashSet<>(required);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (!missing.isEmpty()) {
+                missing.remove(name);
+            }
+            StreamingSchema property = properties.get(name);
+            if (property != null) {
+                property.validate(parser, path + "." + name, errors);
+            } else {
+                if (!additionalProperties) {
+                    report(errors, path + ": unexpected property " + name);
+                }
+                parser.skipChildren();
+            }
+        }
+        for (String name : missing) {
+            report(errors, path + ": missing required property " + name);
+        }
+    }
+
+    private void validateArray(JsonParser parser, String path, List<String> errors) throws IOException {
+        int index = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (items != null) {
+                items.validate(parser, path + "[" + index + "]", errors);
+            } else {
+                parser.skipChildren();
+            }
+            index++;
+        }
+    }
+
+    private boolean matchesType(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case START_OBJECT -> types.contains("object");
+            case START_ARRAY -> types.contains("array");
+            case VALUE_STRING -> types.contains("string");
+            case VALUE_NUMBER_INT -> types.contains("integer") || types.contains("number");
+            case VALUE_NUMBER_FLOAT -> types.contains("number")
+                    || types.contains("integer") && parser.getDecimalValue().stripTrailingZeros().scale() <= 0;
+            case VALUE_TRUE, VALUE_FALSE -> types.contains("boolean");
+            case VALUE_NULL -> types.contains("null");
+            default -> false;
+        };
+    }
+
+    private static String describe(JsonToken token) {
+        return switch (token) {
+            case START_OBJECT -> "object";
+            case START_ARRAY -> "array";
+            case VALUE_STRING -> "string";
+            case VALUE_NUMBER_INT -> "integer";
+            case VALUE_NUMBER_FLOAT -> "number";
+            case VALUE_TRUE, VALUE_FALSE -> "boolean";
+            case VALUE_NULL -> "null";
+            default -> token.name();
+        };
+    }
+
+    private static void report(List<String> errors, String error) {
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(error);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package api.schema;
+
+public enum ValidationMode {
+
+    /**
+     * Complete JSON Schema semantics on a parsed document tree.
+     **/
+    FULL,
+
+    /**
+     * Single pass over parser events for simple schemas; falls back to {@link #FULL} for anything else.
+     **/
+    STREAMING
+}
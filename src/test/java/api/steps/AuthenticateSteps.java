@@ -1,5 +1,6 @@
 package api.steps;
 
+import api.helpers.RequestExecutor;
 import api.models.AuthRequest;
 import api.models.AuthResponse;
 import io.qameta.allure.Step;
@@ -24,11 +25,11 @@ public class AuthenticateSteps {
                 .password(password)
                 .build();
 
-        Response response = given()
+        Response response = RequestExecutor.once(() -> given()
                 .spec(getBaseSpec())
                 .body(authRequest)
                 .when()
-                .post(AUTH_ENDPOINT);
+                .post(AUTH_ENDPOINT));
 
         AuthResponse authResponse = response.then()
                 .statusCode(200)
@@ -40,6 +41,17 @@ public class AuthenticateSteps {
         return authToken.get();
     }
 
+    /**
+     * Binds an already issued token to the current thread, e.g. for worker threads that did not authenticate themselves.
+     **/
+    public static void useToken(String token) {
+        authToken.set(token);
+    }
+
+    public static String currentToken() {
+        return authToken.get();
+    }
+
     public static RequestSpecification getAuthSpec() {
         return getBaseSpec()
                 .cookie("token", authToken.get());
@@ -47,10 +59,10 @@ public class AuthenticateSteps {
 
     @Step("Post authentication request")
     public Response postAuth(AuthRequest authRequest) {
-        return given()
+        return RequestExecutor.once(() -> given()
                 .spec(getBaseSpec())
                 .body(authRequest)
                 .when()
-                .post(AUTH_ENDPOINT);
+                .post(AUTH_ENDPOINT));
     }
 }
@@ -1,11 +1,43 @@
 package api.steps;
 
+import api.helpers.BookingCache;
+import api.helpers.BookingIdReader;
+import api.helpers.RequestExecutor;
 import api.models.Booking;
 import api.models.BookingResponse;
+import api.models.BulkResult;
+import api.transport.ContentEncoding;
+import api.transport.Responses;
+import config.ConfigProvider;
+import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
+import io.qameta.allure.model.Status;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 import static api.helpers.ApiHelper.getBaseSpec;
+import static api.helpers.ApiHelper.getBaseUrl;
+import static api.helpers.ApiHelper.getHttpClient;
+import static api.helpers.ApiHelper.getMeteredSpec;
+import static api.helpers.ApiHelper.getRestAssuredConfig;
+import static api.helpers.ApiHelper.getSilentSpec;
 import static api.steps.AuthenticateSteps.getAuthSpec;
 import static io.restassured.RestAssured.given;
 
@@ -15,84 +47,240 @@ public class BookingSteps {
 
     @Step("Create booking")
     public BookingResponse createBooking(Booking booking) {
-        Response response = given()
+        Response response = RequestExecutor.once(() -> given()
                 .spec(getAuthSpec())
                 .body(booking)
                 .when()
-                .post(BOOKING_ENDPOINT);
+                .post(BOOKING_ENDPOINT));
 
-        return response.then()
+        BookingResponse bookingResponse = response.then()
                 .statusCode(200)
                 .extract()
                 .as(BookingResponse.class);
+        BookingCache.put(bookingResponse.getBookingId(), bookingResponse.getBooking());
+        return bookingResponse;
+    }
+
+    /**
+     * Creates bookings through {@link RequestExecutor} with at most {@code api.bulk.window} requests in flight.
+     * Results come back in input order; failed items carry their status and error instead of throwing.
+     * Workers skip Allure's request attachments, which do not support concurrent writers, so each item is reported
+     * as its own step once all of them have finished.
+     **/
+    @Step("Create bookings in bulk")
+    public List<BulkResult<BookingResponse>> createBookings(List<Booking> bookings) {
+        String token = AuthenticateSteps.currentToken();
+        int window = Math.max(1, Math.min(ConfigProvider.getConfig().apiBulkWindow(), bookings.size()));
+        List<Future<BulkResult<BookingResponse>>> pending = new ArrayList<>(bookings.size());
+        try (ExecutorService workers = Executors.newFixedThreadPool(window)) {
+            for (int i = 0; i < bookings.size(); i++) {
+                int index = i;
+                pending.add(workers.submit(() -> sendCreate(index, bookings.get(index), token)));
+            }
+        }
+        List<BulkResult<BookingResponse>> results = pending.stream()
+                .map(BookingSteps::join)
+                .toList();
+        for (BulkResult<BookingResponse> result : results) {
+            if (result.isSuccess()) {
+                BookingCache.put(result.getBody().getBookingId(), result.getBody().getBooking());
+                Allure.step("POST " + BOOKING_ENDPOINT + " #" + result.getIndex() + ": " + result.getStatus()
+                        + ", booking " + result.getBody().getBookingId(), Status.PASSED);
+            } else {
+                Allure.step("POST " + BOOKING_ENDPOINT + " #" + result.getIndex() + ": " + result.getStatus()
+                        + ", " + result.getError(), Status.FAILED);
+            }
+        }
+        return results;
+    }
+
+    private static BulkResult<BookingResponse> sendCreate(int index, Booking booking, String token) {
+        try {
+            Response response = RequestExecutor.once(() -> {
+                RequestSpecification spec = given().spec(getMeteredSpec());
+                if (token != null) {
+                    spec.cookie("token", token);
+                }
+                return spec.body(booking)
+                        .when()
+                        .post(BOOKING_ENDPOINT);
+            });
+            if (response.getStatusCode() != 200) {
+                return new BulkResult<>(index, response.getStatusCode(), null,
+                        "Expected status code <200> but was <" + response.getStatusCode() + ">");
+            }
+            return new BulkResult<>(index, 200, response.as(BookingResponse.class), null);
+        } catch (Throwable e) {
+            // undeclared IOExceptions and open-circuit errors belong to this item, not to the whole call
+            return new BulkResult<>(index, 0, null, e.toString());
+        }
     }
 
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while creating bookings", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Bulk create worker failed", e.getCause());
+        }
+    }
+
+    /**
+     * Served from {@link BookingCache} when it holds the booking, e.g. right after this client created or updated it.
+     **/
     @Step("Get booking by ID: {bookingId}")
     public Response getBooking(Integer bookingId) {
-        return given()
+        byte[] cached = BookingCache.get(bookingId);
+        if (cached != null) {
+            Allure.parameter("Served from", "client booking cache");
+            return Responses.build(200, "HTTP/1.1 200 OK",
+                    new Headers(new Header("Content-Type", "application/json; charset=utf-8")),
+                    cached,
+                    getRestAssuredConfig());
+        }
+        return fetchBooking(bookingId);
+    }
+
+    /**
+     * Always asks the service, for tests that verify what it actually stored.
+     **/
+    @Step("Get booking by ID: {bookingId} from the service")
+    public Response getBookingFresh(Integer bookingId) {
+        return fetchBooking(bookingId);
+    }
+
+    private Response fetchBooking(Integer bookingId) {
+        return RequestExecutor.idempotent(() -> given()
                 .spec(getBaseSpec())
                 .when()
-                .get(BOOKING_ENDPOINT + "/" + bookingId);
+                .get(BOOKING_ENDPOINT + "/" + bookingId));
     }
 
     @Step("Get all bookings")
     public Response getAllBookings() {
-        return given()
+        return RequestExecutor.idempotent(() -> given()
                 .spec(getBaseSpec())
                 .when()
-                .get(BOOKING_ENDPOINT);
+                .get(BOOKING_ENDPOINT));
+    }
+
+    /**
+     * Streams {@code GET /booking} over the JDK client with the same retries and circuit breaker as the other steps.
+     * The body is never buffered, so Allure records the status and id count instead of the full response.
+     **/
+    @Step("Stream all booking ids")
+    public int streamAllBookingIds(IntConsumer visitor) {
+        URI uri = URI.create(getBaseUrl() + BOOKING_ENDPOINT);
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", ContentEncoding.ACCEPT_ENCODING)
+                .GET()
+                .build();
+        HttpResponse<InputStream> response = RequestExecutor.idempotentStream(() -> send(request));
+        Allure.parameter("Request", "GET " + uri);
+        Allure.parameter("Status", response.statusCode());
+        try (InputStream body = ContentEncoding.decode(response.body(), response.headers().firstValue("Content-Encoding").orElse(null))) {
+            if (response.statusCode() != 200) {
+                throw new AssertionError("Expected status code <200> but was <" + response.statusCode() + ">");
+            }
+            int count = BookingIdReader.read(body, visitor);
+            Allure.parameter("Booking ids", count);
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to stream " + BOOKING_ENDPOINT, e);
+        }
+    }
+
+    private static HttpResponse<InputStream> send(HttpRequest request) {
+        try {
+            return getHttpClient().send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to send " + request.method() + " " + request.uri(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending " + request.method() + " " + request.uri(), e);
+        }
+    }
+
+    @Step("Get all booking ids")
+    public int[] getAllBookingIds() {
+        IntStream.Builder ids = IntStream.builder();
+        streamAllBookingIds(ids);
+        return ids.build().toArray();
     }
 
     @Step("Get bookings by firstname: {firstname}")
     public Response getBookingsByFirstName(String firstname) {
-        return given()
+        return RequestExecutor.idempotent(() -> given()
                 .spec(getBaseSpec())
                 .queryParam("firstname", firstname)
                 .when()
-                .get(BOOKING_ENDPOINT);
+                .get(BOOKING_ENDPOINT));
     }
 
     @Step("Get bookings by lastname: {lastname}")
     public Response getBookingsByLastName(String lastname) {
-        return given()
+        return RequestExecutor.idempotent(() -> given()
                 .spec(getBaseSpec())
                 .queryParam("lastname", lastname)
                 .when()
-                .get(BOOKING_ENDPOINT);
+                .get(BOOKING_ENDPOINT));
     }
 
     @Step("Update booking ID: {bookingId}")
     public Response updateBooking(Integer bookingId, Booking booking) {
-        return given()
+        BookingCache.evict(bookingId);
+        Response response = RequestExecutor.idempotent(() -> given()
                 .spec(getAuthSpec())
                 .body(booking)
                 .when()
-                .put(BOOKING_ENDPOINT + "/" + bookingId);
+                .put(BOOKING_ENDPOINT + "/" + bookingId));
+        if (response.getStatusCode() == 200 && BookingCache.isEnabled()) {
+            BookingCache.put(bookingId, response.as(Booking.class));
+        }
+        return response;
     }
 
     @Step("Update booking ID: {bookingId} without token")
     public Response updateBookingWithoutToken(Integer bookingId, Booking booking) {
-        return given()
+        return RequestExecutor.idempotent(() -> given()
                 .spec(getBaseSpec())
                 .body(booking)
                 .when()
-                .put(BOOKING_ENDPOINT + "/" + bookingId);
+                .put(BOOKING_ENDPOINT + "/" + bookingId));
     }
 
     @Step("Partial update booking ID: {bookingId}")
     public Response partialUpdateBooking(Integer bookingId, Object partialBooking) {
-        return given()
+        BookingCache.evict(bookingId);
+        return RequestExecutor.once(() -> given()
                 .spec(getAuthSpec())
                 .body(partialBooking)
                 .when()
-                .patch(BOOKING_ENDPOINT + "/" + bookingId);
+                .patch(BOOKING_ENDPOINT + "/" + bookingId));
     }
 
     @Step("Delete booking ID: {bookingId}")
     public Response deleteBooking(Integer bookingId) {
-        return given()
+        BookingCache.evict(bookingId);
+        return RequestExecutor.idempotent(() -> given()
                 .spec(getAuthSpec())
                 .when()
-                .delete(BOOKING_ENDPOINT + "/" + bookingId);
+                .delete(BOOKING_ENDPOINT + "/" + bookingId));
+    }
+
+    /**
+     * Unreported delete used by cleanup, which may run on worker threads or after the owning test has finished.
+     * Not retried here, {@link api.helpers.CleanupRegistry} runs its own retries.
+     **/
+    public Response deleteBookingSilently(Integer bookingId, String token) {
+        BookingCache.evict(bookingId);
+        return RequestExecutor.once(() -> given()
+                .spec(getSilentSpec())
+                .cookie("token", token)
+                .when()
+                .delete(BOOKING_ENDPOINT + "/" + bookingId));
     }
 }
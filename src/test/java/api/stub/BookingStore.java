@@ -0,0 +1,65 @@
+package api.stub;
+
+import api.models.Booking;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe in-memory storage backing the booking stub server.
+ **/
+public class BookingStore {
+
+    private static final String TOKEN_ALPHABET = "0123456789abcdef";
+    private static final int TOKEN_LENGTH = 15;
+
+    private final Map<Integer, Booking> bookings = new ConcurrentHashMap<>();
+    private final Set<String> tokens = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public int create(Booking booking) {
+        int id = sequence.incrementAndGet();
+        bookings.put(id, booking);
+        return id;
+    }
+
+    public Booking get(int id) {
+        return bookings.get(id);
+    }
+
+    public boolean replace(int id, Booking booking) {
+        return bookings.replace(id, booking) != null;
+    }
+
+    public boolean delete(int id) {
+        return bookings.remove(id) != null;
+    }
+
+    public Collection<Map.Entry<Integer, Booking>> entries() {
+        return bookings.entrySet();
+    }
+
+    public String issueToken() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] token = new char[TOKEN_LENGTH];
+        for (int i = 0; i < TOKEN_LENGTH; i++) {
+            token[i] = TOKEN_ALPHABET.charAt(random.nextInt(TOKEN_ALPHABET.length()));
+        }
+        String value = new String(token);
+        tokens.add(value);
+        return value;
+    }
+
+    public boolean isValidToken(String token) {
+        return token != null && tokens.contains(token);
+    }
+
+    public void clear() {
+        bookings.clear();
+        tokens.clear();
+    }
+}
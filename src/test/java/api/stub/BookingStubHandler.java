@@ -0,0 +1,229 @@
+package api.stub;
+
+import api.models.AuthRequest;
+import api.models.AuthResponse;
+import api.models.Booking;
+import api.models.BookingId;
+import api.models.BookingResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transport independent request router reproducing the Restful-Booker API semantics.
+ **/
+@Slf4j
+public class BookingStubHandler {
+
+    private static final String AUTH_PATH = "/auth";
+    private static final String PING_PATH = "/ping";
+    private static final String BOOKING_PATH = "/booking";
+
+    private final BookingStore store;
+    private final ObjectMapper mapper;
+    private final String username;
+    private final String password;
+
+    public BookingStubHandler(BookingStore store, ObjectMapper mapper, String username, String password) {
+        this.store = store;
+        this.mapper = mapper;
+        this.username = username;
+        this.password = password;
+    }
+
+    public StubResponse handle(StubRequest request) {
+        try {
+            return ContentNegotiation.apply(request, route(request));
+        } catch (IOException e) {
+            log.debug("Rejecting malformed request {} {}: {}", request.getMethod(), request.getPath(), e.getMessage());
+            return StubResponse.text(400, "Bad Request");
+        } catch (RuntimeException e) {
+            log.warn("Stub failed to handle {} {}", request.getMethod(), request.getPath(), e);
+            return StubResponse.text(500, "Internal Server Error");
+        }
+    }
+
+    private StubResponse route(StubRequest request) throws IOException {
+        String path = request.getPath();
+        String method = request.getMethod();
+
+        if (path.equals(AUTH_PATH) && method.equals("POST")) {
+            return authenticate(request);
+        }
+        if (path.equals(PING_PATH) && method.equals("GET")) {
+            return StubResponse.text(201, "Created");
+        }
+        if (path.equals(BOOKING_PATH)) {
+            return switch (method) {
+                case "GET" -> listBookings(request);
+                case "POST" -> createBooking(request);
+                default -> StubResponse.text(404, "Not Found");
+            };
+        }
+        if (path.startsWith(BOOKING_PATH + "/")) {
+            Integer id = parseId(path.substring(BOOKING_PATH.length() + 1));
+            if (id == null) {
+                return StubResponse.text(404, "Not Found");
+            }
+            return switch (method) {
+                case "GET" -> getBooking(id);
+                case "PUT" -> updateBooking(request, id);
+                case "PATCH" -> partialUpdateBooking(request, id);
+                case "DELETE" -> deleteBooking(request, id);
+                default -> StubResponse.text(404, "Not Found");
+            };
+        }
+        return StubResponse.text(404, "Not Found");
+    }
+
+    private StubResponse authenticate(StubRequest request) throws IOException {
+        AuthRequest auth = mapper.readValue(request.getBody(), AuthRequest.class);
+        AuthResponse response = username.equals(auth.getUsername()) && password.equals(auth.getPassword())
+                ? AuthResponse.builder().token(store.issueToken()).build()
+                : AuthResponse.builder().reason("Bad credentials").build();
+        return StubResponse.json(200, mapper.writeValueAsBytes(response));
+    }
+
+    private StubResponse listBookings(StubRequest request) throws IOException {
+        Map<String, String> query = request.getQueryParams();
+        List<BookingId> ids = store.entries().stream()
+                .filter(entry -> matches(entry.getValue(), query))
+                .map(entry -> new BookingId(entry.getKey()))
+                .toList();
+        return StubResponse.json(200, mapper.writeValueAsBytes(ids));
+    }
+
+    /**
+     * Mirrors the Restful-Booker filters: exact names, check-in on or after and check-out on or before the given dates.
+     **/
+    private static boolean matches(Booking booking, Map<String, String> query) {
+        String firstName = query.get("firstname");
+        if (firstName != null && !firstName.equals(booking.getFirstName())) {
+            return false;
+        }
+        String lastName = query.get("lastname");
+        if (lastName != null && !lastName.equals(booking.getLastName())) {
+            return false;
+        }
+        String checkIn = query.get("checkin");
+        if (checkIn != null && booking.getBookingDates().getCheckIn().compareTo(checkIn) < 0) {
+            return false;
+        }
+        String checkOut = query.get("checkout");
+        return checkOut == null || booking.getBookingDates().getCheckOut().compareTo(checkOut) <= 0;
+    }
+
+    private StubResponse createBooking(StubRequest request) throws IOException {
+        Booking booking = mapper.readValue(request.getBody(), Booking.class);
+        if (!isComplete(booking)) {
+            return StubResponse.text(500, "Internal Server Error");
+        }
+        int id = store.create(booking);
+        return StubResponse.json(200, mapper.writeValueAsBytes(new BookingResponse(id, booking)));
+    }
+
+    private StubResponse getBooking(int id) throws IOException {
+        Booking booking = store.get(id);
+        if (booking == null) {
+            return StubResponse.text(404, "Not Found");
+        }
+        return StubResponse.json(200, mapper.writeValueAsBytes(booking));
+    }
+
+    private StubResponse updateBooking(StubRequest request, int id) throws IOException {
+        if (!isAuthorized(request)) {
+            return StubResponse.text(403, "Forbidden");
+        }
+        Booking booking = mapper.readValue(request.getBody(), Booking.class);
+        if (!isComplete(booking)) {
+            return StubResponse.text(400, "Bad Request");
+        }
+        if (!store.replace(id, booking)) {
+            return StubResponse.text(405, "Method Not Allowed");
+        }
+        return StubResponse.json(200, mapper.writeValueAsBytes(booking));
+    }
+
+    private StubResponse partialUpdateBooking(StubRequest request, int id) throws IOException {
+        if (!isAuthorized(request)) {
+            return StubResponse.text(403, "Forbidden");
+        }
+        Booking existing = store.get(id);
+        if (existing == null) {
+            return StubResponse.text(405, "Method Not Allowed");
+        }
+        Booking merged = mapper.readerForUpdating(mapper.convertValue(existing, Booking.class))
+                .readValue(request.getBody());
+        if (!store.replace(id, merged)) {
+            return StubResponse.text(405, "Method Not Allowed");
+        }
+        return StubResponse.json(200, mapper.writeValueAsBytes(merged));
+    }
+
+    private StubResponse deleteBooking(StubRequest request, int id) {
+        if (!isAuthorized(request)) {
+            return StubResponse.text(403, "Forbidden");
+        }
+        return store.delete(id)
+                ? StubResponse.text(201, "Created")
+                : StubResponse.text(405, "Method Not Allowed");
+    }
+
+    private boolean isAuthorized(StubRequest request) {
+        String cookie = request.header("Cookie");
+        if (cookie != null) {
+            for (String pair : cookie.split(";")) {
+                String[] parts = pair.trim().split("=", 2);
+                if (parts.length == 2 && parts[0].equals("token") && store.isValidToken(parts[1])) {
+                    return true;
+                }
+            }
+        }
+        String authorization = request.header("Authorization");
+        if (authorization != null && authorization.startsWith("Basic ")) {
+            String credentials = new String(Base64.getDecoder().decode(authorization.substring(6)), StandardCharsets.UTF_8);
+            return credentials.equals(username + ":" + password);
+        }
+        return false;
+    }
+
+    private static boolean isComplete(Booking booking) {
+        return booking != null
+                && booking.getFirstName() != null
+                && booking.getLastName() != null
+                && booking.getTotalPrice() != null
+                && booking.getDepositPaid() != null
+                && booking.getBookingDates() != null
+                && booking.getBookingDates().getCheckIn() != null
+                && booking.getBookingDates().getCheckOut() != null;
+    }
+
+    private static Integer parseId(String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static Map<String, String> parseQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> params = new HashMap<>();
+        for (String pair : rawQuery.split("&")) {
+            String[] parts = pair.split("=", 2);
+            String key = URLDecoder.decode(parts[0], StandardCharsets.UTF_8);
+            String value = parts.length > 1 ? URLDecoder.decode(parts[1], StandardCharsets.UTF_8) : "";
+            params.putIfAbsent(key, value);
+        }
+        return params;
+    }
+}
@@ -0,0 +1,105 @@
+package api.stub;
+
+import api.data.TestDataBuilder;
+import api.helpers.ObjectMapperProvider;
+import config.ConfigProvider;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+
+/**
+ * Embedded, in-process stand-in for the Restful-Booker service.
+ * Served over HTTP/1.1 by the JDK server, or over h2c by Jetty when started with {@link HttpClient.Version#HTTP_2}.
+ **/
+@Slf4j
+public class BookingStubServer implements AutoCloseable {
+
+    private static final String[] SEED_FIRST_NAMES = {"Jim", "Mary", "Sally", "Eric", "Susan", "Mark"};
+    private static final String[] SEED_LAST_NAMES = {"Brown", "Smith", "Jones", "Wilson", "Ericsson", "Jackson"};
+
+    private final BookingStore store = new BookingStore();
+    private final BookingStubHandler handler;
+    private final int requestedPort;
+    private final HttpClient.Version protocol;
+    private StubEndpoint endpoint;
+
+    public BookingStubServer(int port, String username, String password) {
+        this(port, username, password, ConfigProvider.getConfig().apiHttpVersion());
+    }
+
+    public BookingStubServer(int port, String username, String password, HttpClient.Version protocol) {
+        this.requestedPort = port;
+        this.protocol = protocol;
+        this.handler = new BookingStubHandler(store, ObjectMapperProvider.getMapper(), username, password);
+    }
+
+    /**
+     * Suite-wide instance used when {@code api.stub.enabled=true}; started on first use and stopped on JVM exit.
+     **/
+    public static BookingStubServer shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Pre-populates the store the way the public service is seeded, so list endpoints never start out empty.
+     **/
+    public BookingStubServer seed(int count) {
+        for (int i = 0; i < count; i++) {
+            store.create(TestDataBuilder.createBooking(
+                    SEED_FIRST_NAMES[i % SEED_FIRST_NAMES.length],
+                    SEED_LAST_NAMES[i % SEED_LAST_NAMES.length],
+                    100 + i * 37 % 900));
+        }
+        return this;
+    }
+
+    public synchronized BookingStubServer start() {
+        if (endpoint != null) {
+            return this;
+        }
+        endpoint = protocol == HttpClient.Version.HTTP_2
+                ? new JettyH2cEndpoint(requestedPort, handler)
+                : new JdkHttpEndpoint(requestedPort, handler);
+        log.info("Booking stub server ({}) started at {}", protocol, getBaseUrl());
+        return this;
+    }
+
+    public String getBaseUrl() {
+        if (endpoint == null) {
+            throw new IllegalStateException("Booking stub server is not started");
+        }
+        InetSocketAddress address = endpoint.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    public BookingStore getStore() {
+        return store;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (endpoint == null) {
+            return;
+        }
+        endpoint.close();
+        endpoint = null;
+        log.info("Booking stub server stopped");
+    }
+
+    private static final class SharedHolder {
+
+        private static final BookingStubServer INSTANCE = createShared();
+
+        private static BookingStubServer createShared() {
+            BookingStubServer server = new BookingStubServer(
+                    ConfigProvider.getConfig().apiStubPort(),
+                    ConfigProvider.getConfig().apiUsername(),
+                    ConfigProvider.getConfig().apiPassword())
+                    .seed(ConfigProvider.getConfig().apiStubSeedBookings())
+                    .start();
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "booking-stub-shutdown"));
+            return server;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package api.stub;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.zip.CRC32C;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Transport independent HTTP caching and compression for stub responses: strong ETags with
+ * {@code If-None-Match} revalidation on successful GETs, and gzip or deflate bodies when the client accepts them.
+ **/
+final class ContentNegotiation {
+
+    private static final int MIN_COMPRESSED_SIZE = 256;
+    private static final byte[] EMPTY = new byte[0];
+
+    private ContentNegotiation() {
+    }
+
+    static StubResponse apply(StubRequest request, StubResponse response) {
+        if (!request.getMethod().equals("GET") || response.getStatus() != 200) {
+            return response;
+        }
+        String etag = etag(response.getBody());
+        StubResponse tagged = response.withHeader("ETag", etag);
+        if (matches(request.header("If-None-Match"), etag)) {
+            return tagged.withStatusAndBody(304, EMPTY);
+        }
+        if (response.getBody().length < MIN_COMPRESSED_SIZE) {
+            return tagged;
+        }
+        String encoding = preferredEncoding(request.header("Accept-Encoding"));
+        if (encoding == null) {
+            return tagged;
+        }
+        return tagged.withHeader("Content-Encoding", encoding)
+                .withHeader("Vary", "Accept-Encoding")
+                .withStatusAndBody(200, compress(response.getBody(), encoding));
+    }
+
+    private static String etag(byte[] body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        return "\"" + Integer.toHexString(body.length) + "-" + HexFormat.of().toHexDigits((int) crc.getValue()) + "\"";
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Highest-weighted of gzip and deflate per RFC 9110, gzip on ties; {@code *} covers codings not listed
+     * and {@code q=0} rules a coding out.
+     **/
+    private static String preferredEncoding(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        double gzip = -1;
+        double deflate = -1;
+        double wildcard = -1;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double weight = weight(parts);
+            switch (coding) {
+                case "gzip", "x-gzip" -> gzip = Math.max(gzip, weight);
+                case "deflate" -> deflate = Math.max(deflate, weight);
+                case "*" -> wildcard = Math.max(wildcard, weight);
+                default -> {
+                }
+            }
+        }
+        gzip = gzip < 0 ? wildcard : gzip;
+        deflate = deflate < 0 ? wildcard : deflate;
+        if (gzip <= 0 && deflate <= 0) {
+            return null;
+        }
+        return gzip >= deflate ? "gzip" : "deflate";
+    }
+
+    private static double weight(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q') && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] compress(byte[] body, String encoding) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 2);
+        try (OutputStream out = encoding.equals("gzip") ? new GZIPOutputStream(buffer) : new DeflaterOutputStream(buffer)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,74 @@
+package api.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP/1.1 front-end on the JDK built-in server. Every exchange is served on its own virtual thread.
+ **/
+class JdkHttpEndpoint implements StubEndpoint {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final BookingStubHandler handler;
+
+    JdkHttpEndpoint(int port, BookingStubHandler handler) {
+        this.handler = handler;
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to start booking stub server on port " + port, e);
+        }
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::serve);
+        server.start();
+    }
+
+    @Override
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body;
+            try (InputStream input = exchange.getRequestBody()) {
+                body = input.readAllBytes();
+            }
+            StubRequest request = new StubRequest(
+                    exchange.getRequestMethod(),
+                    exchange.getRequestURI().getPath(),
+                    BookingStubHandler.parseQuery(exchange.getRequestURI().getRawQuery()),
+                    exchange.getRequestHeaders(),
+                    body);
+
+            StubResponse response = handler.handle(request);
+
+            exchange.getResponseHeaders().set("Content-Type", response.getContentType());
+            response.getHeaders().forEach(exchange.getResponseHeaders()::set);
+            byte[] payload = response.getBody();
+            exchange.sendResponseHeaders(response.getStatus(), payload.length == 0 ? -1 : payload.length);
+            if (payload.length > 0) {
+                try (OutputStream output = exchange.getResponseBody()) {
+                    output.write(payload);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package api.stub;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cleartext HTTP/2 (h2c) front-end on Jetty. Plain HTTP/1.1 clients are still served on the same port,
+ * and clients may switch to HTTP/2 via the {@code Upgrade: h2c} handshake.
+ **/
+class JettyH2cEndpoint implements StubEndpoint {
+
+    private final Server server;
+    private final ServerConnector connector;
+
+    JettyH2cEndpoint(int port, BookingStubHandler handler) {
+        server = new Server();
+        HttpConfiguration configuration = new HttpConfiguration();
+        connector = new ServerConnector(server,
+                new HttpConnectionFactory(configuration),
+                new HTTP2CServerConnectionFactory(configuration));
+        connector.setHost(InetAddress.getLoopbackAddress().getHostAddress());
+        connector.setPort(port);
+        server.addConnector(connector);
+        server.setHandler(new StubHandlerAdapter(handler));
+        try {
+            server.start();
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to start h2c booking stub server on port " + port, e);
+        }
+    }
+
+    @Override
+    public InetSocketAddress getAddress() {
+        return new InetSocketAddress(connector.getHost(), connector.getLocalPort());
+    }
+
+    @Override
+    public void close() {
+        try {
+            server.stop();
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to stop h2c booking stub server", e);
+        }
+    }
+
+    private static final class StubHandlerAdapter extends AbstractHandler {
+
+        private final BookingStubHandler handler;
+
+        private StubHandlerAdapter(BookingStubHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void handle(String target, Request baseRequest, HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+            baseRequest.setHandled(true);
+            Map<String, List<String>> headers = new HashMap<>();
+            for (String name : Collections.list(request.getHeaderNames())) {
+                headers.put(name, Collections.list(request.getHeaders(name)));
+            }
+            byte[] body;
+            try (InputStream input = request.getInputStream()) {
+                body = input.readAllBytes();
+            }
+
+            StubResponse stubResponse = handler.handle(new StubRequest(
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    BookingStubHandler.parseQuery(request.getQueryString()),
+                    headers,
+                    body));
+
+            response.setStatus(stubResponse.getStatus());
+            response.setContentType(stubResponse.getContentType());
+            stubResponse.getHeaders().forEach(response::setHeader);
+            response.setContentLength(stubResponse.getBody().length);
+            response.getOutputStream().write(stubResponse.getBody());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package api.stub;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Network front-end that feeds requests into a {@link BookingStubHandler}.
+ **/
+interface StubEndpoint extends AutoCloseable {
+
+    InetSocketAddress getAddress();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,25 @@
+package api.stub;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+@Value
+public class StubRequest {
+
+    String method;
+    String path;
+    Map<String, String> queryParams;
+    Map<String, List<String>> headers;
+    byte[] body;
+
+    public String header(String name) {
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name) && !entry.getValue().isEmpty()) {
+                return entry.getValue().get(0);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,37 @@
+package api.stub;
+
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Value
+public class StubResponse {
+
+    private static final String JSON = "application/json; charset=utf-8";
+    private static final String TEXT = "text/plain; charset=utf-8";
+
+    int status;
+    String contentType;
+    byte[] body;
+    Map<String, String> headers;
+
+    public static StubResponse json(int status, byte[] body) {
+        return new StubResponse(status, JSON, body, Map.of());
+    }
+
+    public static StubResponse text(int status, String body) {
+        return new StubResponse(status, TEXT, body.getBytes(StandardCharsets.UTF_8), Map.of());
+    }
+
+    public StubResponse withHeader(String name, String value) {
+        Map<String, String> copy = new LinkedHashMap<>(headers);
+        copy.put(name, value);
+        return new StubResponse(status, contentType, body, copy);
+    }
+
+    public StubResponse withStatusAndBody(int status, byte[] body) {
+        return new StubResponse(status, contentType, body, headers);
+    }
+}
@@ -1,5 +1,6 @@
 package api.tests;
 
+import api.metrics.ApiMetricsExtension;
 import api.models.AuthRequest;
 import api.steps.AuthenticateSteps;
 import config.ConfigProvider;
@@ -9,12 +10,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Epic("API Testing")
 @Feature("Authentication")
 @Tag("api")
+@ExtendWith(ApiMetricsExtension.class)
 public class AuthenticationTest {
 
     private AuthenticateSteps authHelper;
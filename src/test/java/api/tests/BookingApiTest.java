@@ -2,15 +2,19 @@ package api.tests;
 
 
 import api.data.TestDataBuilder;
+import api.helpers.CleanupExtension;
+import api.helpers.CleanupRegistry;
+import api.metrics.ApiMetricsExtension;
 import api.models.Booking;
 import api.models.BookingDates;
 import api.models.BookingId;
 import api.models.BookingResponse;
+import api.models.BulkResult;
+import api.schema.SchemaRegistry;
 import api.steps.AuthenticateSteps;
 import api.steps.BookingSteps;
 import config.ConfigProvider;
 import io.qameta.allure.*;
-import io.restassured.module.jsv.JsonSchemaValidator;
 import io.restassured.response.Response;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -18,6 +22,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -32,12 +37,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 @Epic("API Testing")
 @Feature("Booking Management")
 @Tag("api")
+@ExtendWith({CleanupExtension.class, ApiMetricsExtension.class})
 public class BookingApiTest {
 
     private static AuthenticateSteps authHelper;
     private static BookingSteps bookingHelper;
     private static Random random;
-    private final List<Integer> createdBookingIds = new ArrayList<>();
+    private final CleanupRegistry createdBookings = CleanupRegistry.forBookings();
 
     @BeforeAll
     public static void setUp() {
@@ -52,20 +58,13 @@ public class BookingApiTest {
 
     @AfterEach
     public void tearDown() {
-        for (Integer bookingId : createdBookingIds) {
-            try {
-                bookingHelper.deleteBooking(bookingId);
-            } catch (Exception e) {
-                // Booking might already be deleted or not exist, continue with cleanup
-            }
-        }
-        createdBookingIds.clear();
+        createdBookings.cleanUp();
     }
 
     private Integer createAngGetBookingId() {
         Booking booking = TestDataBuilder.createDefaultBooking();
         BookingResponse bookingResponse = bookingHelper.createBooking(booking);
-        createdBookingIds.add(bookingResponse.getBookingId());
+        createdBookings.track(bookingResponse.getBookingId());
         return bookingResponse.getBookingId();
     }
 
@@ -80,7 +79,7 @@ public class BookingApiTest {
         Booking booking = TestDataBuilder.createBooking(firstName, lastName, price);
 
         BookingResponse bookingResponse = bookingHelper.createBooking(booking);
-        createdBookingIds.add(bookingResponse.getBookingId());
+        createdBookings.track(bookingResponse.getBookingId());
 
         assertThat(bookingResponse)
                 .as("Booking response should not be null")
@@ -117,7 +116,7 @@ public class BookingApiTest {
     public void testGetBookingById() {
         Integer bookingId = createAngGetBookingId();
 
-        Response response = bookingHelper.getBooking(bookingId);
+        Response response = bookingHelper.getBookingFresh(bookingId);
 
         assertThat(response.getStatusCode())
                 .as("Status code should be 200")
@@ -253,6 +252,51 @@ public class BookingApiTest {
         Allure.parameter("Total Bookings", bookings.size());
     }
 
+    @Test
+    @DisplayName("Should stream all booking ids")
+    @Description("Verify that the booking list can be read incrementally and matches the list schema")
+    @Severity(SeverityLevel.NORMAL)
+    public void testStreamAllBookingIds() {
+        Integer bookingId = createAngGetBookingId();
+
+        int[] bookingIds = bookingHelper.getAllBookingIds();
+
+        assertThat(bookingIds)
+                .as("Streamed booking ids should not be empty")
+                .isNotEmpty()
+                .as("Streamed booking ids should contain the created booking")
+                .contains(bookingId);
+
+        Allure.parameter("Total Bookings", bookingIds.length);
+    }
+
+    @Test
+    @DisplayName("Should create bookings in bulk")
+    @Description("Verify that bulk creation returns one successful result per booking, in input order")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCreateBookingsInBulk() {
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            bookings.add(TestDataBuilder.createBooking("Bulk" + i, "Test" + RandomStringUtils.randomAlphabetic(3), 100 + i));
+        }
+
+        List<BulkResult<BookingResponse>> results = bookingHelper.createBookings(bookings);
+        results.stream()
+                .filter(BulkResult::isSuccess)
+                .forEach(result -> createdBookings.track(result.getBody().getBookingId()));
+
+        assertThat(results)
+                .as("Every booking should have a result")
+                .hasSize(bookings.size())
+                .as("Every booking should be created")
+                .allMatch(BulkResult::isSuccess);
+        for (BulkResult<BookingResponse> result : results) {
+            assertThat(result.getBody().getBooking().getFirstName())
+                    .as("Result should match the booking at the same index")
+                    .isEqualTo(bookings.get(result.getIndex()).getFirstName());
+        }
+    }
+
     @Test
     @DisplayName("Should filter bookings by firstname")
     @Description("Verify that bookings can be filtered by firstname")
@@ -263,7 +307,7 @@ public class BookingApiTest {
         int price = 300 + random.nextInt(700); // Random price between 300-999
         Booking booking = TestDataBuilder.createBooking(firstName, lastName, price);
         BookingResponse created = bookingHelper.createBooking(booking);
-        createdBookingIds.add(created.getBookingId());
+        createdBookings.track(created.getBookingId());
 
         Response response = bookingHelper.getBookingsByFirstName(firstName);
 
@@ -299,7 +343,7 @@ public class BookingApiTest {
         int price = 250 + random.nextInt(750); // Random price between 250-999
         Booking booking = TestDataBuilder.createBooking(firstName, lastName, price);
         BookingResponse created = bookingHelper.createBooking(booking);
-        createdBookingIds.add(created.getBookingId());
+        createdBookings.track(created.getBookingId());
 
         Response response = bookingHelper.getBookingsByLastName(lastName);
 
@@ -340,7 +384,7 @@ public class BookingApiTest {
         int price = 400 + random.nextInt(600); // Random price between 400-999
         Booking booking = TestDataBuilder.createDefaultBooking();
         BookingResponse created = bookingHelper.createBooking(booking);
-        createdBookingIds.add(created.getBookingId());
+        createdBookings.track(created.getBookingId());
 
         Booking updatedBooking = TestDataBuilder.createBooking(firstName, lastName, price);
         Response response = bookingHelper.updateBookingWithoutToken(created.getBookingId(), updatedBooking);
@@ -358,12 +402,12 @@ public class BookingApiTest {
         Booking booking = TestDataBuilder.createDefaultBooking();
 
         BookingResponse bookingResponse = bookingHelper.createBooking(booking);
-        createdBookingIds.add(bookingResponse.getBookingId());
+        createdBookings.track(bookingResponse.getBookingId());
 
         Response response = bookingHelper.getAllBookings();
         response.then()
                 .statusCode(200)
-                .body(JsonSchemaValidator.matchesJsonSchemaInClasspath("schemas/booking-list-schema.json"));
+                .body(SchemaRegistry.matches("booking-list-schema.json"));
     }
 
     @Test
@@ -387,7 +431,7 @@ public class BookingApiTest {
 
         BookingResponse bookingResponse = bookingHelper.createBooking(booking);
 
-        createdBookingIds.add(bookingResponse.getBookingId());
+        createdBookings.track(bookingResponse.getBookingId());
         assertThat(bookingResponse)
                 .as("Booking should be created successfully with valid date format")
                 .isNotNull();
@@ -431,7 +475,7 @@ public class BookingApiTest {
 
         if (response.getStatusCode() == 200) {
             BookingResponse bookingResponse = response.as(BookingResponse.class);
-            createdBookingIds.add(bookingResponse.getBookingId());
+            createdBookings.track(bookingResponse.getBookingId());
         }
     }
 
@@ -456,7 +500,7 @@ public class BookingApiTest {
 
         BookingResponse bookingResponse = bookingHelper.createBooking(booking);
 
-        createdBookingIds.add(bookingResponse.getBookingId());
+        createdBookings.track(bookingResponse.getBookingId());
         assertThat(bookingResponse)
                 .as("Booking should be created with same dates")
                 .isNotNull();
@@ -0,0 +1,128 @@
+package api.tests;
+
+import api.data.TestDataBuilder;
+import api.helpers.ApiHelper;
+import api.helpers.BookingCache;
+import api.models.Booking;
+import api.steps.AuthenticateSteps;
+import api.steps.BookingSteps;
+import api.stub.BookingStubServer;
+import config.ConfigProvider;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exercises the client booking cache against the stub, whose store is changed behind the client's back
+ * to tell cached answers from fresh ones.
+ **/
+@Epic("API Testing")
+@Feature("Booking Cache")
+@Tag("api")
+@Isolated
+public class BookingCacheTest {
+
+    private static BookingStubServer stubServer;
+    private static String previousBaseUrl;
+    private static boolean previouslyEnabled;
+
+    private final BookingSteps bookingSteps = new BookingSteps();
+    private Integer bookingId;
+
+    @BeforeAll
+    public static void setUp() {
+        stubServer = new BookingStubServer(0,
+                ConfigProvider.getConfig().apiUsername(),
+                ConfigProvider.getConfig().apiPassword()).start();
+        previousBaseUrl = ApiHelper.getBaseUrl();
+        previouslyEnabled = BookingCache.isEnabled();
+        ApiHelper.setBaseUrl(stubServer.getBaseUrl());
+        BookingCache.setEnabled(true);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        BookingCache.setEnabled(previouslyEnabled);
+        ApiHelper.setBaseUrl(previousBaseUrl);
+        stubServer.close();
+    }
+
+    @BeforeEach
+    public void createBooking() {
+        new AuthenticateSteps().authenticate(
+                ConfigProvider.getConfig().apiUsername(),
+                ConfigProvider.getConfig().apiPassword());
+        bookingId = bookingSteps.createBooking(TestDataBuilder.createBooking("Cached", "Booking", 150)).getBookingId();
+        // only the service changes, the client cache still holds what create returned
+        stubServer.getStore().replace(bookingId, TestDataBuilder.createBooking("Changed", "Elsewhere", 999));
+    }
+
+    @Test
+    @DisplayName("Should answer reads after create from the cache")
+    @Description("Verify that getBooking returns the created booking while getBookingFresh asks the service")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testReadAfterCreateIsCached() {
+        assertThat(bookingSteps.getBooking(bookingId).as(Booking.class).getFirstName()).isEqualTo("Cached");
+        assertThat(bookingSteps.getBookingFresh(bookingId).as(Booking.class).getFirstName()).isEqualTo("Changed");
+    }
+
+    @Test
+    @DisplayName("Should refresh the entry from an update response")
+    @Description("Verify that a full update replaces the cached booking with the one the service returned")
+    @Severity(SeverityLevel.NORMAL)
+    public void testUpdateRefreshesEntry() {
+        bookingSteps.updateBooking(bookingId, TestDataBuilder.createBooking("Updated", "Booking", 200));
+        stubServer.getStore().replace(bookingId, TestDataBuilder.createBooking("Changed", "Again", 999));
+
+        assertThat(bookingSteps.getBooking(bookingId).as(Booking.class).getFirstName()).isEqualTo("Updated");
+    }
+
+    @Test
+    @DisplayName("Should evict the entry on a partial update")
+    @Description("Verify that after a PATCH the next read goes to the service")
+    @Severity(SeverityLevel.NORMAL)
+    public void testPartialUpdateEvicts() {
+        bookingSteps.partialUpdateBooking(bookingId, Map.of("totalprice", 275));
+
+        Booking booking = bookingSteps.getBooking(bookingId).as(Booking.class);
+        assertThat(booking.getFirstName()).isEqualTo("Changed");
+        assertThat(booking.getTotalPrice()).isEqualTo(275);
+    }
+
+    @Test
+    @DisplayName("Should evict the entry on delete")
+    @Description("Verify that a deleted booking is not served from the cache")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testDeleteEvicts() {
+        assertThat(bookingSteps.deleteBooking(bookingId).getStatusCode()).isEqualTo(201);
+
+        assertThat(bookingSteps.getBooking(bookingId).getStatusCode()).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("Should bypass the cache once disabled")
+    @Description("Verify that switching the cache off drops its entries")
+    @Severity(SeverityLevel.MINOR)
+    public void testDisabledCacheIsBypassed() {
+        BookingCache.setEnabled(false);
+        try {
+            assertThat(BookingCache.get(bookingId)).isNull();
+            assertThat(bookingSteps.getBooking(bookingId).as(Booking.class).getFirstName()).isEqualTo("Changed");
+        } finally {
+            BookingCache.setEnabled(true);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package api.tests;
+
+import api.helpers.ApiHelper;
+import api.metrics.ApiMetrics;
+import api.stub.BookingStubServer;
+import api.transport.HttpClientPool;
+import config.ConfigProvider;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.StepResult;
+import io.restassured.response.Response;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Epic("API Testing")
+@Feature("HTTP/2 Transport")
+@Tag("api")
+public class Http2TransportTest {
+
+    private static final String ENDPOINT = "GET /booking";
+
+    private static BookingStubServer stubServer;
+
+    @BeforeAll
+    public static void setUp() {
+        stubServer = new BookingStubServer(0,
+                ConfigProvider.getConfig().apiUsername(),
+                ConfigProvider.getConfig().apiPassword(),
+                HttpClient.Version.HTTP_2).seed(3).start();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        stubServer.close();
+    }
+
+    @Test
+    @DisplayName("Should report HTTP/2 exchanges to Allure and the latency metrics")
+    @Description("Verify that the JDK transport runs innermost, so the Allure and latency filters still see requests sent over h2c")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testHttp2ExchangeIsReported() {
+        HttpClientPool transport = HttpClientPool.create(HttpClient.Version.HTTP_2, 1);
+        long samplesBefore = sampleCount();
+        List<Attachment> attachments = new ArrayList<>();
+
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String uuid = UUID.randomUUID().toString();
+        lifecycle.startStep(uuid, new StepResult().setName("GET /booking over h2c"));
+        Response response;
+        try {
+            response = given()
+                    .spec(ApiHelper.getBaseSpec(stubServer.getBaseUrl(), transport))
+                    .get("/booking");
+            lifecycle.updateStep(uuid, step -> attachments.addAll(step.getAttachments()));
+        } finally {
+            lifecycle.stopStep(uuid);
+        }
+
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getStatusLine()).startsWith("HTTP/2");
+        assertThat(attachments)
+                .as("AllureRestAssured should attach the request and the response")
+                .extracting(Attachment::getName)
+                .contains("Request");
+        assertThat(sampleCount())
+                .as("LatencyFilter should record the HTTP/2 call")
+                .isGreaterThan(samplesBefore);
+    }
+
+    private static long sampleCount() {
+        Histogram histogram = ApiMetrics.suite().snapshot().get(ENDPOINT);
+        return histogram == null ? 0 : histogram.getTotalCount();
+    }
+}
@@ -0,0 +1,134 @@
+package api.tests;
+
+import api.helpers.ApiHelper;
+import api.metrics.ApiMetricsExtension;
+import api.metrics.MaxLatency;
+import api.stub.BookingStubServer;
+import api.transport.HttpClientPool;
+import config.ConfigProvider;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Method;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives {@link ApiMetricsExtension} around real calls to the stub, with budgets declared on the
+ * {@code budget*} methods below, and checks which of them fail the test.
+ **/
+@Epic("API Testing")
+@Feature("Latency Budgets")
+@Tag("api")
+public class LatencyBudgetTest {
+
+    private static BookingStubServer stubServer;
+
+    @BeforeAll
+    public static void setUp() {
+        stubServer = new BookingStubServer(0,
+                ConfigProvider.getConfig().apiUsername(),
+                ConfigProvider.getConfig().apiPassword()).seed(3).start();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        stubServer.close();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"budgetMet", "budgetForOtherEndpoint"})
+    @DisplayName("Should pass tests that stay within their latency budget")
+    @Description("Verify that a generous budget, or one for an endpoint the test never called, does not fail the test")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldPassWithinBudget(String budget) throws Exception {
+        ApiMetricsExtension extension = new ApiMetricsExtension(true);
+        ExtensionContext context = context(budget);
+
+        extension.beforeEach(context);
+        getAllBookings();
+
+        assertThatCode(() -> extension.afterEach(context)).doesNotThrowAnyException();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"budgetExceeded", "endpointBudgetExceeded"})
+    @DisplayName("Should fail tests that exceed their latency budget")
+    @Description("Verify that a breached budget fails the test and names the endpoint and statistic")
+    @Severity(SeverityLevel.CRITICAL)
+    void shouldFailWhenBudgetExceeded(String budget) throws Exception {
+        ApiMetricsExtension extension = new ApiMetricsExtension(true);
+        ExtensionContext context = context(budget);
+
+        extension.beforeEach(context);
+        getAllBookings();
+
+        assertThatThrownBy(() -> extension.afterEach(context))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageStartingWith("API latency budget exceeded:")
+                .hasMessageContaining("GET /booking max");
+    }
+
+    @Test
+    @DisplayName("Should only report budgets while enforcement is off")
+    @Description("Verify that with api.sla.enabled=false a breached budget does not fail the test")
+    @Severity(SeverityLevel.MINOR)
+    void shouldNotEnforceWhenDisabled() throws Exception {
+        ApiMetricsExtension extension = new ApiMetricsExtension(false);
+        ExtensionContext context = context("budgetExceeded");
+
+        extension.beforeEach(context);
+        getAllBookings();
+
+        assertThatCode(() -> extension.afterEach(context)).doesNotThrowAnyException();
+    }
+
+    private static void getAllBookings() {
+        given()
+                .spec(ApiHelper.getBaseSpec(stubServer.getBaseUrl(), HttpClientPool.getInstance()))
+                .get("/booking")
+                .then()
+                .statusCode(200);
+    }
+
+    private static ExtensionContext context(String budget) throws NoSuchMethodException {
+        Method method = LatencyBudgetTest.class.getDeclaredMethod(budget);
+        ExtensionContext context = mock(ExtensionContext.class);
+        when(context.getRequiredTestClass()).thenAnswer(invocation -> LatencyBudgetTest.class);
+        when(context.getRequiredTestMethod()).thenReturn(method);
+        return context;
+    }
+
+    @MaxLatency(p95 = 60_000, max = 60_000)
+    private static void budgetMet() {
+    }
+
+    @MaxLatency(endpoint = "DELETE /booking/{id}", max = 0)
+    private static void budgetForOtherEndpoint() {
+    }
+
+    // every call takes more than 0 ms
+    @MaxLatency(max = 0)
+    private static void budgetExceeded() {
+    }
+
+    @MaxLatency(endpoint = "GET /booking", max = 0)
+    @MaxLatency(p95 = 60_000)
+    private static void endpointBudgetExceeded() {
+    }
+}
@@ -0,0 +1,170 @@
+package api.tests;
+
+import api.helpers.ApiHelper;
+import api.helpers.RequestExecutor;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.sun.net.httpserver.HttpServer;
+import config.ConfigProvider;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs {@link RequestExecutor} against a local server that answers with a scripted sequence of statuses.
+ * Every test gets its own server, and so its own circuit breaker.
+ **/
+@Epic("API Testing")
+@Feature("Resilience")
+@Tag("api")
+@Isolated
+public class RequestExecutorTest {
+
+    private static final int RETRIES = ConfigProvider.getConfig().retryCount();
+
+    private final Deque<int[]> script = new ArrayDeque<>();
+    private final AtomicInteger hits = new AtomicInteger();
+    private HttpServer server;
+    private String previousBaseUrl;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            hits.incrementAndGet();
+            int[] next;
+            synchronized (script) {
+                next = script.isEmpty() ? new int[]{200, -1} : script.poll();
+            }
+            if (next[1] >= 0) {
+                exchange.getResponseHeaders().add("Retry-After", Integer.toString(next[1]));
+            }
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(next[0], body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        previousBaseUrl = ApiHelper.getBaseUrl();
+        ApiHelper.setBaseUrl("http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ApiHelper.setBaseUrl(previousBaseUrl);
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should retry idempotent calls on retryable statuses")
+    @Description("Verify that 503 and 429 answers are retried and the first success is returned")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testRetriesRetryableStatuses() {
+        respond(503, 0);
+        respond(429, 0);
+
+        Response response = RequestExecutor.idempotent(this::get);
+
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(hits).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Should wait for Retry-After before retrying")
+    @Description("Verify that a Retry-After of one second delays the retry by that long")
+    @Severity(SeverityLevel.NORMAL)
+    public void testHonoursRetryAfter() {
+        respond(503, 1);
+
+        long started = System.nanoTime();
+        Response response = RequestExecutor.idempotent(this::get);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(Math.min(1000, ConfigProvider.getConfig().apiRetryMaxDelayMillis()));
+    }
+
+    @Test
+    @DisplayName("Should return the last answer once retries are exhausted")
+    @Description("Verify that test.retry.count bounds the attempts")
+    @Severity(SeverityLevel.NORMAL)
+    public void testStopsAfterRetryCount() {
+        for (int i = 0; i <= RETRIES; i++) {
+            respond(503, 0);
+        }
+
+        Response response = RequestExecutor.idempotent(this::get);
+
+        assertThat(response.getStatusCode()).isEqualTo(503);
+        assertThat(hits).hasValue(RETRIES + 1);
+    }
+
+    @Test
+    @DisplayName("Should never repeat non-idempotent calls")
+    @Description("Verify that once() returns a retryable status as is")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testOnceIsNotRetried() {
+        respond(503, 0);
+
+        Response response = RequestExecutor.once(() -> given().spec(ApiHelper.getSilentSpec()).body("{}").post("/booking"));
+
+        assertThat(response.getStatusCode()).isEqualTo(503);
+        assertThat(hits).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should retry connection failures only")
+    @Description("Verify that a connect error is retried while a malformed body is not")
+    @Severity(SeverityLevel.NORMAL)
+    public void testRetriesConnectionFailuresOnly() {
+        AtomicInteger connectAttempts = new AtomicInteger();
+        assertThatThrownBy(() -> RequestExecutor.idempotent(() -> {
+            connectAttempts.incrementAndGet();
+            throw new UncheckedIOException(new ConnectException("Connection refused"));
+        })).isInstanceOf(UncheckedIOException.class);
+
+        AtomicInteger parseAttempts = new AtomicInteger();
+        assertThatThrownBy(() -> RequestExecutor.idempotent(() -> {
+            parseAttempts.incrementAndGet();
+            throw new UncheckedIOException(new JsonParseException((JsonParser) null, "Unexpected end-of-input"));
+        })).isInstanceOf(UncheckedIOException.class);
+
+        assertThat(List.of(connectAttempts.get(), parseAttempts.get())).containsExactly(RETRIES + 1, 1);
+    }
+
+    private Response get() {
+        return given().spec(ApiHelper.getSilentSpec()).get("/booking");
+    }
+
+    private void respond(int status, int retryAfterSeconds) {
+        synchronized (script) {
+            script.add(new int[]{status, retryAfterSeconds});
+        }
+    }
+}
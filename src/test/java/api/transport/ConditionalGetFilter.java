@@ -0,0 +1,109 @@
+package api.transport;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client-side HTTP cache for GETs: responses carrying an ETag are kept (LRU, per URI) and revalidated with
+ * {@code If-None-Match}. A 304 is answered with the cached 200, so steps and assertions never see the difference.
+ * The server still decides freshness on every call; a mutation of a URI only evicts its entry early.
+ **/
+public class ConditionalGetFilter implements OrderedFilter {
+
+    private final Map<String, Entry> cache;
+
+    public ConditionalGetFilter(int maxEntries) {
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String uri = requestSpec.getURI();
+        if (!requestSpec.getMethod().equals("GET")) {
+            evict(uri);
+            return ctx.next(requestSpec, responseSpec);
+        }
+        if (requestSpec.getHeaders().hasHeaderWithName("If-None-Match")) {
+            // the caller runs its own revalidation and expects to see the 304
+            return ctx.next(requestSpec, responseSpec);
+        }
+        Entry cached = lookup(uri);
+        if (cached != null) {
+            requestSpec.header("If-None-Match", cached.getEtag());
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response.getStatusCode() == 304 && cached != null) {
+            return Responses.build(200, cached.getStatusLine(), cached.getHeaders(), cached.getBody(), requestSpec.getConfig());
+        }
+        String etag = response.getHeader("ETag");
+        if (response.getStatusCode() == 200 && etag != null) {
+            store(uri, new Entry(etag, response.getStatusLine(), decodedHeaders(response.getHeaders()), response.asByteArray()));
+        } else if (cached != null) {
+            evict(uri);
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 2;
+    }
+
+    /**
+     * The cached body is already decoded, so length and encoding of the original transfer no longer apply.
+     **/
+    private static Headers decodedHeaders(Headers headers) {
+        List<Header> kept = new ArrayList<>();
+        for (Header header : headers) {
+            if (!header.getName().equalsIgnoreCase("Content-Encoding") && !header.getName().equalsIgnoreCase("Content-Length")) {
+                kept.add(header);
+            }
+        }
+        return new Headers(kept);
+    }
+
+    private Entry lookup(String uri) {
+        synchronized (cache) {
+            return cache.get(uri);
+        }
+    }
+
+    private void store(String uri, Entry entry) {
+        synchronized (cache) {
+            cache.put(uri, entry);
+        }
+    }
+
+    private void evict(String uri) {
+        synchronized (cache) {
+            cache.remove(uri);
+        }
+    }
+
+    @Value
+    private static class Entry {
+
+        String etag;
+        String statusLine;
+        Headers headers;
+        byte[] body;
+    }
+}
@@ -0,0 +1,40 @@
+package api.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Transparent response decompression for calls made through the JDK client, which, unlike
+ * REST Assured's Apache client, neither advertises nor decodes compressed bodies on its own.
+ **/
+public final class ContentEncoding {
+
+    public static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private ContentEncoding() {
+    }
+
+    public static InputStream decode(InputStream body, String contentEncoding) throws IOException {
+        if (contentEncoding == null) {
+            return body;
+        }
+        return switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(body);
+            case "deflate" -> new InflaterInputStream(body);
+            default -> body;
+        };
+    }
+
+    public static byte[] decode(byte[] body, String contentEncoding) throws IOException {
+        if (contentEncoding == null || body.length == 0) {
+            return body;
+        }
+        try (InputStream decoded = decode(new ByteArrayInputStream(body), contentEncoding)) {
+            return decoded.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package api.transport;
+
+import config.ConfigProvider;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared JDK HTTP clients. Over HTTP/2 every client keeps one multiplexed connection per origin,
+ * so {@code api.http2.connections} clients spread concurrent streams over that many connections.
+ **/
+public final class HttpClientPool {
+
+    private static final HttpClientPool INSTANCE = new HttpClientPool(
+            ConfigProvider.getConfig().apiHttpVersion(),
+            ConfigProvider.getConfig().apiHttp2Connections());
+
+    private final HttpClient.Version version;
+    private final HttpClient[] clients;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private HttpClientPool(HttpClient.Version version, int http2Connections) {
+        this.version = version;
+        int size = version == HttpClient.Version.HTTP_2 ? Math.max(1, http2Connections) : 1;
+        this.clients = new HttpClient[size];
+        for (int i = 0; i < size; i++) {
+            clients[i] = HttpClient.newBuilder()
+                    .version(version)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+        }
+    }
+
+    public static HttpClientPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * A separate pool for the given protocol, independent of {@code api.http.version}, e.g. to talk to an h2c stub.
+     **/
+    public static HttpClientPool create(HttpClient.Version version, int http2Connections) {
+        return new HttpClientPool(version, http2Connections);
+    }
+
+    public HttpClient next() {
+        return clients[Math.floorMod(next.getAndIncrement(), clients.length)];
+    }
+
+    public HttpClient.Version getVersion() {
+        return version;
+    }
+}
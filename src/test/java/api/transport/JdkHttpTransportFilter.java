@@ -0,0 +1,117 @@
+package api.transport;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Cookie;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Terminal filter that sends the request through {@link HttpClientPool} instead of REST Assured's
+ * HTTP/1.1-only Apache client. It never calls the next filter, so it has to be innermost: it shares
+ * {@code LOWEST_PRECEDENCE} with {@code AllureRestAssured}, and REST Assured keeps insertion order among
+ * equal orders, so it must be added after every other filter for Allure, logging and metrics to see the exchange.
+ **/
+public class JdkHttpTransportFilter implements OrderedFilter {
+
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+    private static final Set<String> DECODED_HEADERS = Set.of("content-encoding", "content-length");
+
+    private final HttpClientPool pool;
+
+    public JdkHttpTransportFilter(HttpClientPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        HttpRequest request = toHttpRequest(requestSpec);
+        try {
+            HttpResponse<byte[]> response = pool.next().send(request, HttpResponse.BodyHandlers.ofByteArray());
+            byte[] body = ContentEncoding.decode(response.body(), response.headers().firstValue("Content-Encoding").orElse(null));
+            return Responses.build(
+                    response.statusCode(),
+                    statusLine(response),
+                    toHeaders(response),
+                    body,
+                    requestSpec.getConfig());
+        } catch (IOException e) {
+            throw new UncheckedIOException(requestSpec.getMethod() + " " + requestSpec.getURI() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during " + requestSpec.getMethod() + " " + requestSpec.getURI(), e);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    private static HttpRequest toHttpRequest(FilterableRequestSpecification requestSpec) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(requestSpec.getURI()));
+        for (Header header : requestSpec.getHeaders()) {
+            if (!RESTRICTED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+                builder.header(header.getName(), header.getValue());
+            }
+        }
+        if (requestSpec.getContentType() != null && !requestSpec.getHeaders().hasHeaderWithName("Content-Type")) {
+            builder.header("Content-Type", requestSpec.getContentType());
+        }
+        if (!requestSpec.getHeaders().hasHeaderWithName("Accept-Encoding")) {
+            builder.header("Accept-Encoding", ContentEncoding.ACCEPT_ENCODING);
+        }
+        if (requestSpec.getCookies().exist()) {
+            StringJoiner cookies = new StringJoiner("; ");
+            for (Cookie cookie : requestSpec.getCookies()) {
+                cookies.add(cookie.getName() + "=" + cookie.getValue());
+            }
+            builder.header("Cookie", cookies.toString());
+        }
+        return builder.method(requestSpec.getMethod(), bodyPublisher(requestSpec.getBody()))
+                .build();
+    }
+
+    private static HttpRequest.BodyPublisher bodyPublisher(Object body) {
+        if (body == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        if (body instanceof byte[] bytes) {
+            return HttpRequest.BodyPublishers.ofByteArray(bytes);
+        }
+        return HttpRequest.BodyPublishers.ofString(body.toString(), StandardCharsets.UTF_8);
+    }
+
+    private static Headers toHeaders(HttpResponse<?> response) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> {
+            if (!name.startsWith(":") && !DECODED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                values.forEach(value -> headers.add(new Header(name, value)));
+            }
+        });
+        return new Headers(headers);
+    }
+
+    private static String statusLine(HttpResponse<?> response) {
+        String protocol = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        return protocol + " " + response.statusCode();
+    }
+}
@@ -0,0 +1,30 @@
+package api.transport;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.Headers;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.response.Response;
+
+/**
+ * Builds REST Assured responses for bodies that did not come through REST Assured's own HTTP client.
+ **/
+public final class Responses {
+
+    private Responses() {
+    }
+
+    public static Response build(int status, String statusLine, Headers headers, byte[] body, RestAssuredConfig config) {
+        String contentType = headers.hasHeaderWithName("Content-Type") ? headers.getValue("Content-Type") : "";
+        Response response = new ResponseBuilder()
+                .setStatusCode(status)
+                .setStatusLine(statusLine)
+                .setHeaders(headers)
+                .setContentType(contentType)
+                .setBody(body)
+                .build();
+        // keep the shared object mapper for as(...) on responses built outside the regular pipeline
+        ((RestAssuredResponseImpl) response).setConfig(config);
+        return response;
+    }
+}
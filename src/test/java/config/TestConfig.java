@@ -1,7 +1,10 @@
 package config;
 
+import api.schema.ValidationMode;
 import org.aeonbits.owner.Config;
 
+import java.net.http.HttpClient;
+
 @Config.LoadPolicy(Config.LoadType.MERGE)
 @Config.Sources({
         "classpath:config.properties"
@@ -17,9 +20,90 @@ public interface TestConfig extends Config {
     @Key("api.auth.password")
     String apiPassword();
 
+    @Key("api.stub.enabled")
+    boolean apiStubEnabled();
+
+    @Key("api.stub.port")
+    int apiStubPort();
+
+    @Key("api.stub.seed.bookings")
+    int apiStubSeedBookings();
+
+    @Key("api.http.version")
+    HttpClient.Version apiHttpVersion();
+
+    @Key("api.http2.connections")
+    int apiHttp2Connections();
+
+    @Key("api.bulk.window")
+    int apiBulkWindow();
+
+    @Key("api.metrics.report.dir")
+    String apiMetricsReportDir();
+
+    @Key("api.sla.enabled")
+    boolean apiSlaEnabled();
+
+    @Key("api.etag.cache.enabled")
+    boolean apiEtagCacheEnabled();
+
+    @Key("api.etag.cache.size")
+    int apiEtagCacheSize();
+
+    @Key("api.booking.cache.enabled")
+    boolean apiBookingCacheEnabled();
+
+    @Key("api.booking.cache.size")
+    int apiBookingCacheSize();
+
+    @Key("api.retry.base.delay.millis")
+    long apiRetryBaseDelayMillis();
+
+    @Key("api.retry.max.delay.millis")
+    long apiRetryMaxDelayMillis();
+
+    @Key("api.circuit.failure.threshold")
+    int apiCircuitFailureThreshold();
+
+    @Key("api.circuit.open.millis")
+    long apiCircuitOpenMillis();
+
+    @Key("api.governor.enabled")
+    boolean apiGovernorEnabled();
+
+    @Key("api.rate.limit.per.second")
+    double apiRateLimitPerSecond();
+
+    @Key("api.max.in.flight")
+    int apiMaxInFlight();
+
+    @Key("api.governor.overrides")
+    String[] apiGovernorOverrides();
+
+    @Key("api.json.blackbird.enabled")
+    boolean jsonBlackbirdEnabled();
+
+    @Key("api.schema.validation.mode")
+    ValidationMode schemaValidationMode();
+
+    @Key("api.cleanup.parallelism")
+    int cleanupParallelism();
+
+    @Key("api.cleanup.retries")
+    int cleanupRetries();
+
+    @Key("api.cleanup.deferred")
+    boolean cleanupDeferred();
+
     @Key("ui.base.url")
     String uiBaseUrl();
 
+    @Key("ui.fixture.enabled")
+    boolean uiFixtureEnabled();
+
+    @Key("ui.fixture.port")
+    int uiFixturePort();
+
     @Key("ui.browser")
     String browser();
 
@@ -29,9 +113,78 @@ public interface TestConfig extends Config {
     @Key("ui.timeout")
     int timeout();
 
+    @Key("ui.browser.shared")
+    boolean browserShared();
+
+    @Key("ui.browser.pool.enabled")
+    boolean browserPoolEnabled();
+
+    @Key("ui.browser.pool.size")
+    int browserPoolSize();
+
+    @Key("ui.browser.pool.max.uses")
+    int browserPoolMaxUses();
+
+    @Key("ui.page.load.strategy")
+    String pageLoadStrategy();
+
+    @Key("ui.network.block.enabled")
+    boolean networkBlockingEnabled();
+
+    @Key("ui.network.blocked.urls")
+    String[] blockedUrlPatterns();
+
+    @Key("ui.wait.events.enabled")
+    boolean eventWaitsEnabled();
+
     @Key("ui.screenshots.on.failure")
     boolean screenshotsOnFailure();
 
+    @Key("ui.locator.profile.enabled")
+    boolean locatorProfileEnabled();
+
+    @Key("ui.locator.slow.millis")
+    long locatorSlowMillis();
+
+    @Key("ui.locator.max.depth")
+    int locatorMaxDepth();
+
+    @Key("ui.locator.report.dir")
+    String locatorReportDir();
+
+    @Key("ui.element.cache.enabled")
+    boolean elementCacheEnabled();
+
+    @Key("ui.screenshots.format")
+    String screenshotFormat();
+
+    @Key("ui.screenshots.jpeg.quality")
+    float screenshotJpegQuality();
+
+    @Key("ui.page.source.on.failure")
+    boolean pageSourceOnFailure();
+
     @Key("test.retry.count")
     int retryCount();
+
+    @Key("load.rate.per.second")
+    double loadRatePerSecond();
+
+    @Key("load.duration.seconds")
+    int loadDurationSeconds();
+
+    @Key("load.max.in.flight")
+    int loadMaxInFlight();
+
+    @Key("load.report.dir")
+    String loadReportDir();
+
+    @Key("data.corpus.dir")
+    String corpusDir();
+
+    @Key("data.corpus.size")
+    int corpusSize();
+
+    @Key("data.corpus.seed")
+    long corpusSeed();
 }
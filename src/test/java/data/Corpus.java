@@ -0,0 +1,99 @@
+package data;
+
+import api.helpers.ObjectMapperProvider;
+import api.models.Booking;
+import com.fasterxml.jackson.databind.ObjectReader;
+import config.ConfigProvider;
+import ui.data.FormTestDataBuilder;
+import ui.data.WebTableTestDataBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-only, memory-mapped view of a pre-generated corpus file (see {@link CorpusGenerator}).
+ * Lookups use absolute reads on the shared mappings and {@link #next()} hands out indexes from an atomic cursor,
+ * so parallel workers can pull records without locking or generating anything.
+ **/
+public final class Corpus<T> {
+
+    private final ByteBuffer data;
+    private final LongBuffer offsets;
+    private final int size;
+    private final ObjectReader reader;
+    private final AtomicLong cursor = new AtomicLong();
+
+    private Corpus(Path dir, String name, Class<T> type) {
+        this.data = map(dir.resolve(name + ".jsonl"));
+        ByteBuffer index = map(dir.resolve(name + ".idx"));
+        this.offsets = index.slice(CorpusGenerator.HEADER_BYTES, index.capacity() - CorpusGenerator.HEADER_BYTES).asLongBuffer();
+        this.size = offsets.capacity() - 1;
+        this.reader = ObjectMapperProvider.getMapper().readerFor(type);
+    }
+
+    public static Corpus<Booking> bookings() {
+        return Holder.BOOKINGS;
+    }
+
+    public static Corpus<FormTestDataBuilder> students() {
+        return Holder.STUDENTS;
+    }
+
+    public static Corpus<WebTableTestDataBuilder> employees() {
+        return Holder.EMPLOYEES;
+    }
+
+    /**
+     * Maps corpus file {@code name} (see {@link CorpusGenerator#BOOKINGS} and friends) from a generated directory.
+     **/
+    public static <T> Corpus<T> open(Path dir, String name, Class<T> type) {
+        return new Corpus<>(dir, name, type);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public T get(int index) {
+        int start = (int) offsets.get(index);
+        byte[] record = new byte[(int) offsets.get(index + 1) - start - 1];
+        data.get(start, record);
+        try {
+            return reader.readValue(record);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt corpus record " + index, e);
+        }
+    }
+
+    /**
+     * Next record in round-robin order across all callers.
+     **/
+    public T next() {
+        return get((int) Math.floorMod(cursor.getAndIncrement(), (long) size));
+    }
+
+    private static ByteBuffer map(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map corpus file " + file, e);
+        }
+    }
+
+    private static final class Holder {
+
+        private static final Path DIR = CorpusGenerator.ensure(
+                Path.of(ConfigProvider.getConfig().corpusDir()),
+                ConfigProvider.getConfig().corpusSize(),
+                ConfigProvider.getConfig().corpusSeed());
+        private static final Corpus<Booking> BOOKINGS = new Corpus<>(DIR, CorpusGenerator.BOOKINGS, Booking.class);
+        private static final Corpus<FormTestDataBuilder> STUDENTS = new Corpus<>(DIR, CorpusGenerator.STUDENTS, FormTestDataBuilder.class);
+        private static final Corpus<WebTableTestDataBuilder> EMPLOYEES = new Corpus<>(DIR, CorpusGenerator.EMPLOYEES, WebTableTestDataBuilder.class);
+    }
+}
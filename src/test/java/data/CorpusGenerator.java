@@ -0,0 +1,132 @@
+package data;
+
+import api.data.TestDataBuilder;
+import api.helpers.ObjectMapperProvider;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import config.ConfigProvider;
+import lombok.extern.slf4j.Slf4j;
+import ui.data.FormTestDataBuilder;
+import ui.data.WebTableTestDataBuilder;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the data corpus: one JSON record per line in {@code <name>.jsonl}, plus {@code <name>.idx}
+ * holding a header (size, seed) and {@code size + 1} big-endian byte offsets so readers can slice record {@code i}
+ * without scanning. Runs in {@code process-test-classes}, or lazily from {@link Corpus} when the files are missing
+ * or were written for another size or seed.
+ **/
+@Slf4j
+public final class CorpusGenerator {
+
+    public static final String BOOKINGS = "bookings";
+    public static final String STUDENTS = "students";
+    public static final String EMPLOYEES = "employees";
+
+    static final int HEADER_BYTES = 2 * Long.BYTES;
+
+    private CorpusGenerator() {
+    }
+
+    public static void main(String[] args) {
+        Path dir = Path.of(args.length > 0 ? args[0] : ConfigProvider.getConfig().corpusDir());
+        int size = args.length > 1 ? Integer.parseInt(args[1]) : ConfigProvider.getConfig().corpusSize();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : ConfigProvider.getConfig().corpusSeed();
+        generate(dir, size, seed);
+    }
+
+    public static void generate(Path dir, int size, long seed) {
+        long started = System.nanoTime();
+        write(dir, BOOKINGS, TestDataBuilder.bookings(seed), size, seed);
+        write(dir, STUDENTS, FormTestDataBuilder.students(seed), size, seed);
+        write(dir, EMPLOYEES, WebTableTestDataBuilder.employees(seed), size, seed);
+        log.info("Generated {} records per corpus file in {} ({} ms)", size, dir, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Generates the corpus in {@code dir} unless every file already holds {@code size} records for {@code seed}.
+     **/
+    public static Path ensure(Path dir, int size, long seed) {
+        if (!isCurrent(dir, size, seed)) {
+            generate(dir, size, seed);
+        }
+        return dir;
+    }
+
+    public static boolean isCurrent(Path dir, int size, long seed) {
+        for (String name : new String[]{BOOKINGS, STUDENTS, EMPLOYEES}) {
+            Path index = dir.resolve(name + ".idx");
+            if (!Files.exists(index)) {
+                return false;
+            }
+            try (DataInputStream header = new DataInputStream(Files.newInputStream(index))) {
+                if (header.readLong() != size || header.readLong() != seed) {
+                    return false;
+                }
+            } catch (IOException e) {
+                // truncated or unreadable, write it again
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void write(Path dir, String name, Stream<?> records, int size, long seed) {
+        ObjectWriter writer = ObjectMapperProvider.getMapper().writer();
+        Path data = dir.resolve(name + ".jsonl");
+        Path index = dir.resolve(name + ".idx");
+        try {
+            Files.createDirectories(dir);
+            try (CountingOutputStream out = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(data), 1 << 16));
+                 DataOutputStream offsets = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(index)))) {
+                offsets.writeLong(size);
+                offsets.writeLong(seed);
+                Iterator<?> iterator = records.limit(size).iterator();
+                while (iterator.hasNext()) {
+                    offsets.writeLong(out.count);
+                    out.write(writer.writeValueAsBytes(iterator.next()));
+                    out.write('\n');
+                }
+                offsets.writeLong(out.count);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write corpus " + data, e);
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+        private long count;
+
+        private CountingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package data;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Random sources for test data builders. Unseeded data comes from {@link ThreadLocalRandom}, so parallel
+ * threads never contend on a shared generator. Seeded data gets one generator per record, derived from
+ * (seed, index) alone, so any record of a stream can be rebuilt on its own from the values in its failure message.
+ **/
+public final class RecordRandom {
+
+    private static final char[] DIGITS = "0123456789".toCharArray();
+    private static final char[] ALPHANUMERIC_LOWER = "abcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+    private static final char[] ALPHABETIC_LOWER = "abcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    private RecordRandom() {
+    }
+
+    public static RandomGenerator current() {
+        return ThreadLocalRandom.current();
+    }
+
+    public static RandomGenerator forRecord(long seed, long index) {
+        return new SplittableRandom(mix(seed, index));
+    }
+
+    /**
+     * SplitMix64 finalizer over seed and index, so neighbouring indexes yield unrelated generators.
+     **/
+    static long mix(long seed, long index) {
+        long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static <T> T pick(RandomGenerator random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    public static String numeric(RandomGenerator random, int length) {
+        return chars(random, DIGITS, length);
+    }
+
+    public static String alphanumericLower(RandomGenerator random, int length) {
+        return chars(random, ALPHANUMERIC_LOWER, length);
+    }
+
+    public static String alphabeticLower(RandomGenerator random, int length) {
+        return chars(random, ALPHABETIC_LOWER, length);
+    }
+
+    private static String chars(RandomGenerator random, char[] alphabet, int length) {
+        char[] result = new char[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        return new String(result);
+    }
+}
@@ -1,6 +1,9 @@
 package integration;
 
 import api.data.TestDataBuilder;
+import api.helpers.CleanupExtension;
+import api.helpers.CleanupRegistry;
+import api.metrics.ApiMetricsExtension;
 import api.models.Booking;
 import api.models.BookingResponse;
 import api.steps.AuthenticateSteps;
@@ -9,24 +12,23 @@ import config.ConfigProvider;
 import io.qameta.allure.*;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.junitpioneer.jupiter.RetryingTest;
 import ui.pages.WebTablePage;
 import ui.tests.BaseTest;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Epic("Integration Testing")
 @Feature("E2E")
 @Tag("integration")
+@ExtendWith({CleanupExtension.class, ApiMetricsExtension.class})
 public class ApiUiIntegrationTest extends BaseTest {
 
     private BookingSteps bookingHelper;
     private AuthenticateSteps authHelper;
     private WebTablePage webTablePage;
-    private final List<Integer> createdBookingIds = new ArrayList<>();
+    private final CleanupRegistry createdBookings = CleanupRegistry.forBookings();
     private static final String WEB_TABLES_URL = "/webtables";
 
     @BeforeEach
@@ -46,14 +48,7 @@ public class ApiUiIntegrationTest extends BaseTest {
     @AfterEach
     public void tearDown() {
         // Clean up all created bookings via API
-        for (Integer bookingId : createdBookingIds) {
-            try {
-                bookingHelper.deleteBooking(bookingId);
-            } catch (Exception e) {
-                // Booking might already be deleted or not exist, continue with cleanup
-            }
-        }
-        createdBookingIds.clear();
+        createdBookings.cleanUp();
         super.tearDown();
     }
 
@@ -68,14 +63,14 @@ public class ApiUiIntegrationTest extends BaseTest {
         Booking apiBooking = TestDataBuilder.createBooking(firstName, lastName, 500);
 
         BookingResponse bookingResponse = bookingHelper.createBooking(apiBooking);
-        createdBookingIds.add(bookingResponse.getBookingId());
+        createdBookings.track(bookingResponse.getBookingId());
 
         assertThat(bookingResponse.getBookingId()).isNotNull();
         assertThat(bookingResponse.getBooking().getFirstName()).isEqualTo(apiBooking.getFirstName());
         assertThat(bookingResponse.getBooking().getLastName()).isEqualTo(apiBooking.getLastName());
 
         // Step 2: Open Web Table UI
-        webTablePage.open(ConfigProvider.getConfig().uiBaseUrl() + WEB_TABLES_URL);
+        webTablePage.open(uiBaseUrl() + WEB_TABLES_URL);
 
         // Step 3: Add booking data from API to Web Table
         String email = apiBooking.getFirstName().toLowerCase() + "." +
@@ -115,14 +110,14 @@ public class ApiUiIntegrationTest extends BaseTest {
         BookingResponse response1 = bookingHelper.createBooking(booking1);
         BookingResponse response2 = bookingHelper.createBooking(booking2);
 
-        createdBookingIds.add(response1.getBookingId());
-        createdBookingIds.add(response2.getBookingId());
+        createdBookings.track(response1.getBookingId());
+        createdBookings.track(response2.getBookingId());
 
         assertThat(response1.getBookingId()).isNotNull();
         assertThat(response2.getBookingId()).isNotNull();
 
         // Step 2: Open Web Table UI
-        webTablePage.open(ConfigProvider.getConfig().uiBaseUrl() + WEB_TABLES_URL);
+        webTablePage.open(uiBaseUrl() + WEB_TABLES_URL);
 
         // Step 3: Add both bookings to Web Table
         String email1 = booking1.getFirstName().toLowerCase() + "@booking.com";
@@ -169,12 +164,12 @@ public class ApiUiIntegrationTest extends BaseTest {
         Booking originalBooking = TestDataBuilder.createBooking(firstName, lastName, 350);
 
         BookingResponse bookingResponse = bookingHelper.createBooking(originalBooking);
-        createdBookingIds.add(bookingResponse.getBookingId());
+        createdBookings.track(bookingResponse.getBookingId());
 
         assertThat(bookingResponse.getBookingId()).isNotNull();
 
         // Step 2: Add to Web Table UI
-        webTablePage.open(ConfigProvider.getConfig().uiBaseUrl() + WEB_TABLES_URL);
+        webTablePage.open(uiBaseUrl() + WEB_TABLES_URL);
 
         String email = originalBooking.getFirstName().toLowerCase() + "@booking.com";
         webTablePage.addRecord(
@@ -214,12 +209,12 @@ public class ApiUiIntegrationTest extends BaseTest {
         Booking apiBooking = TestDataBuilder.createBooking(uniqueFirstName, lastName, 550);
 
         BookingResponse bookingResponse = bookingHelper.createBooking(apiBooking);
-        createdBookingIds.add(bookingResponse.getBookingId());
+        createdBookings.track(bookingResponse.getBookingId());
 
         assertThat(bookingResponse.getBookingId()).isNotNull();
 
         // Step 2: Add to Web Table UI
-        webTablePage.open(ConfigProvider.getConfig().uiBaseUrl() + WEB_TABLES_URL);
+        webTablePage.open(uiBaseUrl() + WEB_TABLES_URL);
 
         String email = uniqueFirstName.toLowerCase() + "@test.com";
         webTablePage.addRecord(
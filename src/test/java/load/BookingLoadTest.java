@@ -0,0 +1,74 @@
+package load;
+
+import api.helpers.ApiHelper;
+import api.steps.AuthenticateSteps;
+import api.steps.BookingSteps;
+import api.stub.BookingStubServer;
+import config.ConfigProvider;
+import data.Corpus;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Epic("Load Testing")
+@Feature("Booking API")
+@Tag("load")
+@Isolated
+public class BookingLoadTest {
+
+    private static BookingStubServer stubServer;
+    private static String previousBaseUrl;
+
+    @BeforeAll
+    public static void setUp() {
+        stubServer = new BookingStubServer(0,
+                ConfigProvider.getConfig().apiUsername(),
+                ConfigProvider.getConfig().apiPassword()).start();
+        previousBaseUrl = ApiHelper.getBaseUrl();
+        ApiHelper.setBaseUrl(stubServer.getBaseUrl());
+        // maps, or first generates, the booking corpus before the arrival clock starts
+        Corpus.bookings();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        ApiHelper.setBaseUrl(previousBaseUrl);
+        stubServer.close();
+    }
+
+    @Test
+    @DisplayName("Should sustain the configured arrival rate against the booking stub")
+    @Description("Run the weighted booking scenario mix at an open-model arrival rate and report per-endpoint latency percentiles")
+    @Severity(SeverityLevel.NORMAL)
+    public void testBookingLoadAgainstStub() {
+        String token = new AuthenticateSteps().authenticate(
+                ConfigProvider.getConfig().apiUsername(),
+                ConfigProvider.getConfig().apiPassword());
+
+        LoadRunner runner = new LoadRunner(BookingScenarios.defaultMix(new BookingSteps()), token);
+        LoadReport report = runner.run(LoadProfile.fromConfig());
+
+        report.writeTo(Path.of(ConfigProvider.getConfig().loadReportDir(), "booking-load.txt"));
+        Allure.addAttachment("Load report", "text/plain", report.format());
+
+        assertThat(report.getDropped())
+                .as("No arrivals should be dropped by the in-flight limit")
+                .isZero();
+        assertThat(report.totalErrors())
+                .as("Load run should complete without errors")
+                .isZero();
+    }
+}
@@ -0,0 +1,58 @@
+package load;
+
+import api.models.BookingResponse;
+import api.steps.BookingSteps;
+import data.Corpus;
+import io.restassured.response.Response;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Weighted booking workloads built on top of the regular step library. New bookings come from the
+ * pre-generated {@link Corpus}, so workers do not build test data while the clock is running.
+ **/
+public final class BookingScenarios {
+
+    private BookingScenarios() {
+    }
+
+    public static List<Scenario> defaultMix(BookingSteps steps) {
+        return List.of(
+                Scenario.of("lifecycle", 6, () -> lifecycle(steps)),
+                Scenario.of("lookup", 3, () -> lookup(steps)),
+                Scenario.of("search", 1, () -> search(steps))
+        );
+    }
+
+    /**
+     * create -> get -> patch -> delete
+     **/
+    public static void lifecycle(BookingSteps steps) {
+        BookingResponse created = steps.createBooking(Corpus.bookings().next());
+        Integer bookingId = created.getBookingId();
+        expectStatus(steps.getBooking(bookingId), 200);
+        expectStatus(steps.partialUpdateBooking(bookingId, Map.of("totalprice", 275)), 200);
+        expectStatus(steps.deleteBooking(bookingId), 201);
+    }
+
+    /**
+     * create -> get -> get -> delete, the read-mostly pattern of most functional tests.
+     **/
+    public static void lookup(BookingSteps steps) {
+        Integer bookingId = steps.createBooking(Corpus.bookings().next()).getBookingId();
+        expectStatus(steps.getBooking(bookingId), 200);
+        expectStatus(steps.getBooking(bookingId), 200);
+        expectStatus(steps.deleteBooking(bookingId), 201);
+    }
+
+    public static void search(BookingSteps steps) {
+        expectStatus(steps.getBookingsByFirstName("John"), 200);
+    }
+
+    private static void expectStatus(Response response, int expected) {
+        if (response.getStatusCode() != expected) {
+            throw new IllegalStateException(String.format("Expected status %d but got %d", expected, response.getStatusCode()));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package load;
+
+import config.ConfigProvider;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Open-model workload definition: arrivals are scheduled at a fixed rate regardless of how fast earlier ones complete.
+ **/
+@Value
+@Builder
+public class LoadProfile {
+
+    double arrivalsPerSecond;
+    Duration duration;
+    int maxInFlight;
+
+    public static LoadProfile fromConfig() {
+        return LoadProfile.builder()
+                .arrivalsPerSecond(ConfigProvider.getConfig().loadRatePerSecond())
+                .duration(Duration.ofSeconds(ConfigProvider.getConfig().loadDurationSeconds()))
+                .maxInFlight(ConfigProvider.getConfig().loadMaxInFlight())
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package load;
+
+import api.metrics.LatencyRecorder;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Summary of a load run: per-endpoint and per-scenario latency percentiles in milliseconds.
+ **/
+@Getter
+public class LoadReport {
+
+    private static final String ROW_FORMAT = "%-28s %9s %7s %9s %9s %9s %9s %9s %9s%n";
+
+    private final Map<String, Histogram> endpoints;
+    private final Map<String, Histogram> scenarios;
+    private final LatencyRecorder endpointRecorder;
+    private final LatencyRecorder scenarioRecorder;
+    private final long scheduled;
+    private final long dropped;
+    private final Duration elapsed;
+
+    LoadReport(LatencyRecorder endpointRecorder, LatencyRecorder scenarioRecorder,
+               long scheduled, long dropped, Duration elapsed) {
+        this.endpointRecorder = endpointRecorder;
+        this.scenarioRecorder = scenarioRecorder;
+        this.endpoints = endpointRecorder.snapshot();
+        this.scenarios = scenarioRecorder.snapshot();
+        this.scheduled = scheduled;
+        this.dropped = dropped;
+        this.elapsed = elapsed;
+    }
+
+    public long totalErrors() {
+        return endpoints.keySet().stream().mapToLong(endpointRecorder::errorCount).sum()
+                + scenarios.keySet().stream().mapToLong(scenarioRecorder::errorCount).sum();
+    }
+
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+        out.append(String.format("Load run: %d arrivals scheduled, %d dropped, %.1f s elapsed%n", scheduled, dropped, seconds));
+        appendTable(out, "Endpoint", endpoints, endpointRecorder, seconds);
+        appendTable(out, "Scenario", scenarios, scenarioRecorder, seconds);
+        return out.toString();
+    }
+
+    public void writeTo(Path file) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, format());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write load report to " + file, e);
+        }
+    }
+
+    private static void appendTable(StringBuilder out, String title, Map<String, Histogram> histograms,
+                                    LatencyRecorder recorder, double seconds) {
+        out.append(System.lineSeparator());
+        out.append(String.format(ROW_FORMAT, title, "count", "errors", "rps", "p50", "p90", "p95", "p99", "max"));
+        histograms.forEach((key, histogram) -> out.append(String.format(ROW_FORMAT,
+                key,
+                histogram.getTotalCount(),
+                recorder.errorCount(key),
+                String.format("%.1f", histogram.getTotalCount() / seconds),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getMaxValue()))));
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+}
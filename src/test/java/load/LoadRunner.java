@@ -0,0 +1,132 @@
+package load;
+
+import api.helpers.ApiHelper;
+import api.helpers.RequestExecutor;
+import api.metrics.LatencyFilter;
+import api.metrics.LatencyRecorder;
+import api.steps.AuthenticateSteps;
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives weighted scenarios at a fixed arrival rate, one virtual thread per arrival.
+ * Scenario latency is measured from the intended start time, so a slow target cannot hide queueing delay.
+ **/
+@Slf4j
+public class LoadRunner {
+
+    private final List<Scenario> scenarios;
+    private final int[] cumulativeWeights;
+    private final String authToken;
+
+    public LoadRunner(List<Scenario> scenarios, String authToken) {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("At least one scenario is required");
+        }
+        this.scenarios = List.copyOf(scenarios);
+        this.authToken = authToken;
+        this.cumulativeWeights = new int[scenarios.size()];
+        int total = 0;
+        for (int i = 0; i < scenarios.size(); i++) {
+            total += scenarios.get(i).getWeight();
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Installs the latency filter and switches reporting, throttling and retries off for the run, so every sample is
+     * exactly one request; the previous global REST Assured filters and {@link ApiHelper}/{@link RequestExecutor}
+     * settings are restored afterwards, also when the run fails.
+     **/
+    public LoadReport run(LoadProfile profile) {
+        List<Filter> previousFilters = new ArrayList<>(RestAssured.filters());
+        boolean previousReporting = ApiHelper.isReportingEnabled();
+        boolean previousGoverned = RequestExecutor.isGoverned();
+        boolean previousRetrying = RequestExecutor.isRetrying();
+        try {
+            LatencyRecorder endpointRecorder = new LatencyRecorder();
+            RestAssured.filters(new LatencyFilter(endpointRecorder::record));
+            ApiHelper.setReportingEnabled(false);
+            RequestExecutor.setGoverned(false);
+            RequestExecutor.setRetrying(false);
+            return drive(profile, endpointRecorder);
+        } finally {
+            RestAssured.replaceFiltersWith(previousFilters);
+            ApiHelper.setReportingEnabled(previousReporting);
+            RequestExecutor.setGoverned(previousGoverned);
+            RequestExecutor.setRetrying(previousRetrying);
+        }
+    }
+
+    private LoadReport drive(LoadProfile profile, LatencyRecorder endpointRecorder) {
+        LatencyRecorder scenarioRecorder = new LatencyRecorder();
+        long interval = (long) (1_000_000_000L / profile.getArrivalsPerSecond());
+        Semaphore inFlight = new Semaphore(profile.getMaxInFlight());
+        long scheduled = 0;
+        long dropped = 0;
+        long start = System.nanoTime();
+        long end = start + profile.getDuration().toNanos();
+        log.info("Starting load run: {} arrivals/s for {}", profile.getArrivalsPerSecond(), profile.getDuration());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long intendedStart = start; intendedStart < end; intendedStart = start + scheduled * interval) {
+                long wait;
+                while ((wait = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                scheduled++;
+                if (!inFlight.tryAcquire()) {
+                    dropped++;
+                    continue;
+                }
+                Scenario scenario = pick();
+                long arrival = intendedStart;
+                executor.submit(() -> {
+                    try {
+                        execute(scenario, arrival, scenarioRecorder);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+
+        LoadReport report = new LoadReport(endpointRecorder, scenarioRecorder, scheduled, dropped,
+                Duration.ofNanos(System.nanoTime() - start));
+        log.info("Load run finished{}{}", System.lineSeparator(), report.format());
+        return report;
+    }
+
+    private void execute(Scenario scenario, long intendedStart, LatencyRecorder recorder) {
+        AuthenticateSteps.useToken(authToken);
+        boolean failed = false;
+        try {
+            scenario.getAction().run();
+        } catch (Throwable e) {
+            // transport errors arrive as undeclared IOExceptions; every failure must be counted, not kill the worker
+            failed = true;
+            log.debug("Scenario {} failed: {}", scenario.getName(), e.getMessage());
+        }
+        recorder.record(scenario.getName(), System.nanoTime() - intendedStart, failed);
+    }
+
+    private Scenario pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return scenarios.get(i);
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+}
@@ -0,0 +1,21 @@
+package load;
+
+import lombok.Value;
+
+/**
+ * A named unit of user behaviour picked by the load runner proportionally to its weight.
+ **/
+@Value
+public class Scenario {
+
+    String name;
+    int weight;
+    Runnable action;
+
+    public static Scenario of(String name, int weight, Runnable action) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Scenario weight must be positive: " + name);
+        }
+        return new Scenario(name, weight, action);
+    }
+}
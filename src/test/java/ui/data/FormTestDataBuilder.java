@@ -1,20 +1,23 @@
 package ui.data;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import data.RecordRandom;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.With;
-import org.apache.commons.lang3.RandomStringUtils;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 @Getter
 @With
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class FormTestDataBuilder {
 
-    private static final Random RANDOM = new Random();
-
     private static final String[] FIRST_NAMES = {"John", "Jane", "Michael", "Sarah", "David", "Emily", "James", "Emma"};
     private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis"};
     private static final String[] SUBJECTS = {"Maths", "English", "Physics", "Chemistry", "Computer Science", "Biology", "History"};
@@ -22,6 +25,15 @@ public class FormTestDataBuilder {
     private static final String[] STATES = {"NCR", "Uttar Pradesh", "Haryana", "Rajasthan"};
     private static final String[] MONTHS = {"January", "February", "March", "April", "May", "June",
             "July", "August", "September", "October", "November", "December"};
+    private static final String[] STREETS = {"Main St", "Oak Ave", "Park Blvd", "Elm Street", "Maple Drive"};
+    private static final String[] CITIES = {"New York", "Los Angeles", "Chicago", "Houston", "Phoenix"};
+    private static final String[] YEARS = range(1980, 25, "%d");
+    private static final String[] DAYS = range(1, 28, "%02d");
+
+    // per-record generator of seeded builders; null for unseeded ones, which ask ThreadLocalRandom at each use
+    @Getter(AccessLevel.NONE)
+    @With(AccessLevel.NONE)
+    private final RandomGenerator random;
 
     private final String firstName;
     private final String lastName;
@@ -37,15 +49,17 @@ public class FormTestDataBuilder {
     private final String state;
     private final String city;
 
-    private FormTestDataBuilder() {
-        this.firstName = randomElement(FIRST_NAMES);
-        this.lastName = randomElement(LAST_NAMES);
-        this.email = generateRandomEmail();
-        this.gender = RANDOM.nextBoolean() ? "Male" : "Female";
-        this.mobile = "1" + RandomStringUtils.randomNumeric(9);
-        this.month = randomElement(MONTHS);
-        this.year = String.valueOf(1980 + RANDOM.nextInt(25));
-        this.day = String.format("%02d", 1 + RANDOM.nextInt(28));
+    private FormTestDataBuilder(RandomGenerator seeded) {
+        this.random = seeded;
+        RandomGenerator random = random();
+        this.firstName = RecordRandom.pick(random, FIRST_NAMES);
+        this.lastName = RecordRandom.pick(random, LAST_NAMES);
+        this.email = "test" + RecordRandom.alphanumericLower(random, 8) + "@example.com";
+        this.gender = random.nextBoolean() ? "Male" : "Female";
+        this.mobile = "1" + RecordRandom.numeric(random, 9);
+        this.month = RecordRandom.pick(random, MONTHS);
+        this.year = RecordRandom.pick(random, YEARS);
+        this.day = RecordRandom.pick(random, DAYS);
         this.subjects = null;
         this.hobbies = null;
         this.address = null;
@@ -54,21 +68,58 @@ public class FormTestDataBuilder {
     }
 
     public static FormTestDataBuilder builder() {
-        return new FormTestDataBuilder();
+        return new FormTestDataBuilder(null);
     }
 
     public static FormTestDataBuilder randomStudent() {
-        return new FormTestDataBuilder()
+        return randomStudent(null);
+    }
+
+    public static FormTestDataBuilder minimalStudent() {
+        return new FormTestDataBuilder(null);
+    }
+
+    /**
+     * Rebuilds record {@code index} of {@link #students(long)} for the same seed.
+     **/
+    public static FormTestDataBuilder randomStudent(long seed, long index) {
+        return randomStudent(RecordRandom.forRecord(seed, index));
+    }
+
+    public static Stream<FormTestDataBuilder> students(long seed) {
+        return LongStream.range(0, Long.MAX_VALUE)
+                .mapToObj(index -> randomStudent(seed, index));
+    }
+
+    /**
+     * Rebuilds a student read back from the pre-generated data corpus.
+     **/
+    @JsonCreator
+    static FormTestDataBuilder fromJson(@JsonProperty("firstName") String firstName,
+                                        @JsonProperty("lastName") String lastName,
+                                        @JsonProperty("email") String email,
+                                        @JsonProperty("gender") String gender,
+                                        @JsonProperty("mobile") String mobile,
+                                        @JsonProperty("month") String month,
+                                        @JsonProperty("year") String year,
+                                        @JsonProperty("day") String day,
+                                        @JsonProperty("subjects") String[] subjects,
+                                        @JsonProperty("hobbies") String[] hobbies,
+                                        @JsonProperty("address") String address,
+                                        @JsonProperty("state") String state,
+                                        @JsonProperty("city") String city) {
+        return new FormTestDataBuilder(null, firstName, lastName, email, gender, mobile,
+                month, year, day, subjects, hobbies, address, state, city);
+    }
+
+    private static FormTestDataBuilder randomStudent(RandomGenerator random) {
+        return new FormTestDataBuilder(random)
                 .withRandomSubjects(2)
                 .withRandomHobbies(2)
                 .withRandomAddress()
                 .withRandomStateAndCity();
     }
 
-    public static FormTestDataBuilder minimalStudent() {
-        return new FormTestDataBuilder();
-    }
-
     public FormTestDataBuilder withDateOfBirth(String month, String year, String day) {
         return this.withMonth(month).withYear(year).withDay(day);
     }
@@ -78,7 +129,7 @@ public class FormTestDataBuilder {
     }
 
     public FormTestDataBuilder withRandomSubjects(int count) {
-        return this.withSubjects(randomElements(SUBJECTS, count));
+        return this.withSubjects(randomElements(random(), SUBJECTS, count));
     }
 
     public FormTestDataBuilder withHobbiesVarargs(String... hobbies) {
@@ -86,27 +137,31 @@ public class FormTestDataBuilder {
     }
 
     public FormTestDataBuilder withRandomHobbies(int count) {
-        return this.withHobbies(randomElements(HOBBIES, count));
+        return this.withHobbies(randomElements(random(), HOBBIES, count));
     }
 
     public FormTestDataBuilder withRandomAddress() {
-        return this.withAddress(generateRandomAddress());
+        RandomGenerator random = random();
+        int streetNumber = 100 + random.nextInt(9900);
+        return this.withAddress(streetNumber + " " + RecordRandom.pick(random, STREETS) + ", " + RecordRandom.pick(random, CITIES));
     }
 
     public FormTestDataBuilder withRandomStateAndCity() {
-        String randomState = randomElement(STATES);
-        return this.withState(randomState).withCity(getCityForState(randomState));
+        RandomGenerator random = random();
+        String randomState = RecordRandom.pick(random, STATES);
+        return this.withState(randomState).withCity(getCityForState(randomState, random.nextBoolean()));
     }
 
+    @JsonIgnore
     public String getFullName() {
         return firstName + " " + lastName;
     }
 
-    private static <T> T randomElement(T[] array) {
-        return array[RANDOM.nextInt(array.length)];
+    private RandomGenerator random() {
+        return random != null ? random : RecordRandom.current();
     }
 
-    private static String[] randomElements(String[] source, int count) {
+    private static String[] randomElements(RandomGenerator random, String[] source, int count) {
         int actualCount = Math.min(count, source.length);
         String[] result = new String[actualCount];
         boolean[] used = new boolean[source.length];
@@ -114,7 +169,7 @@ public class FormTestDataBuilder {
         for (int i = 0; i < actualCount; i++) {
             int index;
             do {
-                index = RANDOM.nextInt(source.length);
+                index = random.nextInt(source.length);
             } while (used[index]);
             used[index] = true;
             result[i] = source[index];
@@ -122,23 +177,20 @@ public class FormTestDataBuilder {
         return result;
     }
 
-    private static String generateRandomEmail() {
-        return "test" + RandomStringUtils.randomAlphanumeric(8).toLowerCase() + "@example.com";
-    }
-
-    private static String generateRandomAddress() {
-        int streetNumber = 100 + RANDOM.nextInt(9900);
-        String[] streets = {"Main St", "Oak Ave", "Park Blvd", "Elm Street", "Maple Drive"};
-        String[] cities = {"New York", "Los Angeles", "Chicago", "Houston", "Phoenix"};
-        return streetNumber + " " + randomElement(streets) + ", " + randomElement(cities);
+    private static String[] range(int from, int count, String format) {
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = String.format(format, from + i);
+        }
+        return values;
     }
 
-    private static String getCityForState(String state) {
+    private static String getCityForState(String state, boolean first) {
         return switch (state) {
-            case "NCR" -> RANDOM.nextBoolean() ? "Delhi" : "Gurgaon";
-            case "Uttar Pradesh" -> RANDOM.nextBoolean() ? "Agra" : "Lucknow";
-            case "Haryana" -> RANDOM.nextBoolean() ? "Karnal" : "Panipat";
-            case "Rajasthan" -> RANDOM.nextBoolean() ? "Jaipur" : "Jaiselmer";
+            case "NCR" -> first ? "Delhi" : "Gurgaon";
+            case "Uttar Pradesh" -> first ? "Agra" : "Lucknow";
+            case "Haryana" -> first ? "Karnal" : "Panipat";
+            case "Rajasthan" -> first ? "Jaipur" : "Jaiselmer";
             default -> "Delhi";
         };
     }
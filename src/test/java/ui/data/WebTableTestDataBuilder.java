@@ -1,24 +1,32 @@
 package ui.data;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import data.RecordRandom;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.With;
-import org.apache.commons.lang3.RandomStringUtils;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 @Getter
 @With
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class WebTableTestDataBuilder {
 
-    private static final Random RANDOM = new Random();
-
     private static final String[] FIRST_NAMES = {"John", "Jane", "Michael", "Sarah", "David", "Emily", "James", "Emma", "Robert", "Lisa"};
     private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Martinez", "Taylor"};
     private static final String[] DEPARTMENTS = {"Engineering", "QA", "Marketing", "HR", "Finance", "IT", "Support", "Sales", "Operations"};
 
+    // per-record generator of seeded builders; null for unseeded ones, which ask ThreadLocalRandom at each use
+    @Getter(AccessLevel.NONE)
+    @With(AccessLevel.NONE)
+    private final RandomGenerator random;
+
     private final String firstName;
     private final String lastName;
     private final String email;
@@ -26,42 +34,66 @@ public class WebTableTestDataBuilder {
     private final String salary;
     private final String department;
 
-    private WebTableTestDataBuilder() {
-        this.firstName = randomElement(FIRST_NAMES);
-        this.lastName = randomElement(LAST_NAMES);
-        this.email = generateRandomEmail();
-        this.age = String.valueOf(22 + RANDOM.nextInt(43));
-        this.salary = String.valueOf(30000 + RANDOM.nextInt(120000));
-        this.department = randomElement(DEPARTMENTS);
+    private WebTableTestDataBuilder(RandomGenerator seeded) {
+        this.random = seeded;
+        RandomGenerator random = random();
+        this.firstName = RecordRandom.pick(random, FIRST_NAMES);
+        this.lastName = RecordRandom.pick(random, LAST_NAMES);
+        this.email = "emp" + RecordRandom.alphanumericLower(random, 8) + "@test.com";
+        this.age = String.valueOf(22 + random.nextInt(43));
+        this.salary = String.valueOf(30000 + random.nextInt(120000));
+        this.department = RecordRandom.pick(random, DEPARTMENTS);
     }
 
     public static WebTableTestDataBuilder builder() {
-        return new WebTableTestDataBuilder();
+        return new WebTableTestDataBuilder(null);
     }
 
     public static WebTableTestDataBuilder randomEmployee() {
-        return new WebTableTestDataBuilder();
+        return new WebTableTestDataBuilder(null);
+    }
+
+    /**
+     * Rebuilds record {@code index} of {@link #employees(long)} for the same seed.
+     **/
+    public static WebTableTestDataBuilder randomEmployee(long seed, long index) {
+        return new WebTableTestDataBuilder(RecordRandom.forRecord(seed, index));
+    }
+
+    public static Stream<WebTableTestDataBuilder> employees(long seed) {
+        return LongStream.range(0, Long.MAX_VALUE)
+                .mapToObj(index -> randomEmployee(seed, index));
+    }
+
+    /**
+     * Rebuilds an employee read back from the pre-generated data corpus.
+     **/
+    @JsonCreator
+    static WebTableTestDataBuilder fromJson(@JsonProperty("firstName") String firstName,
+                                            @JsonProperty("lastName") String lastName,
+                                            @JsonProperty("email") String email,
+                                            @JsonProperty("age") String age,
+                                            @JsonProperty("salary") String salary,
+                                            @JsonProperty("department") String department) {
+        return new WebTableTestDataBuilder(null, firstName, lastName, email, age, salary, department);
     }
 
     public static WebTableTestDataBuilder minimalEmployee() {
-        return new WebTableTestDataBuilder()
+        return new WebTableTestDataBuilder(null)
                 .withAge("25")
                 .withSalary("40000");
     }
 
     public WebTableTestDataBuilder withUniqueEmail(String prefix) {
-        return this.withEmail(prefix + RandomStringUtils.randomAlphabetic(5).toLowerCase() + "@test.com");
+        return this.withEmail(prefix + RecordRandom.alphabeticLower(random(), 5) + "@test.com");
     }
 
+    @JsonIgnore
     public String getFullName() {
         return firstName + " " + lastName;
     }
 
-    private static <T> T randomElement(T[] array) {
-        return array[RANDOM.nextInt(array.length)];
-    }
-
-    private static String generateRandomEmail() {
-        return "emp" + RandomStringUtils.randomAlphanumeric(8).toLowerCase() + "@test.com";
+    private RandomGenerator random() {
+        return random != null ? random : RecordRandom.current();
     }
 }
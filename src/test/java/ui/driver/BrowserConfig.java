@@ -0,0 +1,91 @@
+package ui.driver;
+
+import com.codeborne.selenide.SelenideConfig;
+import config.ConfigProvider;
+import org.openqa.selenium.MutableCapabilities;
+import ui.fixture.FixtureSiteServer;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the Selenide configuration for one browser from config.properties. Each call returns a new,
+ * independent instance, so workers never share or mutate a global {@code Configuration}.
+ **/
+public final class BrowserConfig {
+
+    private static final List<String> HEADLESS_CHROME_ARGS = List.of(
+            "--headless",
+            "--no-sandbox",
+            "--disable-dev-shm-usage",
+            "--disable-gpu",
+            "--disable-extensions",
+            "--disable-blink-features=AutomationControlled",
+            "--window-size=1920,1080"
+    );
+
+    private BrowserConfig() {
+    }
+
+    /**
+     * A driver that launches its own browser, or with {@code ui.browser.shared=true} one that attaches
+     * to the {@link SharedBrowser} process.
+     **/
+    public static SelenideConfig create() {
+        return ConfigProvider.getConfig().browserShared()
+                ? attached(SharedBrowser.getInstance().getDebuggerAddress())
+                : standalone();
+    }
+
+    static SelenideConfig standalone() {
+        boolean headless = ConfigProvider.getConfig().headless();
+        SelenideConfig config = common()
+                .headless(headless)
+                .browserSize("1920x1080");
+
+        if (headless) {
+            MutableCapabilities capabilities = new MutableCapabilities();
+            capabilities.setCapability("goog:chromeOptions", Map.of("args", HEADLESS_CHROME_ARGS));
+            config.browserCapabilities(capabilities);
+        }
+        return config;
+    }
+
+    /**
+     * Window size and headless mode belong to the shared browser; tabs get their size when their context is created.
+     **/
+    static SelenideConfig attached(String debuggerAddress) {
+        MutableCapabilities capabilities = new MutableCapabilities();
+        capabilities.setCapability("goog:chromeOptions", Map.of("debuggerAddress", debuggerAddress));
+        return common()
+                .headless(false)
+                .browserSize(null)
+                .browserCapabilities(capabilities);
+    }
+
+    private static SelenideConfig common() {
+        return new SelenideConfig()
+                .browser(ConfigProvider.getConfig().browser())
+                .timeout(System.getProperty("ui.timeout") != null
+                        ? Integer.parseInt(System.getProperty("ui.timeout"))
+                        : ConfigProvider.getConfig().timeout())
+                .baseUrl(baseUrl())
+                .pageLoadTimeout(System.getProperty("selenide.pageLoadTimeout") != null
+                        ? Integer.parseInt(System.getProperty("selenide.pageLoadTimeout"))
+                        : 30000)
+                .pageLoadStrategy(ConfigProvider.getConfig().pageLoadStrategy())
+                .screenshots(ConfigProvider.getConfig().screenshotsOnFailure())
+                .savePageSource(false)
+                .reopenBrowserOnFail(false)
+                .fastSetValue(false);
+    }
+
+    /**
+     * The demoqa site, or the embedded {@link FixtureSiteServer} when {@code ui.fixture.enabled=true}.
+     **/
+    public static String baseUrl() {
+        return ConfigProvider.getConfig().uiFixtureEnabled()
+                ? FixtureSiteServer.shared().getBaseUrl()
+                : ConfigProvider.getConfig().uiBaseUrl();
+    }
+}
@@ -0,0 +1,221 @@
+package ui.driver;
+
+import com.codeborne.selenide.SelenideDriver;
+import config.ConfigProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps started browsers alive between tests. Each pooled {@link SelenideDriver} carries its own configuration
+ * and browser; it is bound to the test's thread by {@link #lease()}, then reset and parked by {@link #release()}.
+ * At most {@code ui.browser.pool.size} drivers exist at a time, leased or idle: with more parallel tests than that,
+ * {@link #lease()} waits for a browser to come back. A browser is closed after {@code ui.browser.pool.max.uses}
+ * tests or when reset fails (crashed or hung), which frees its slot for a new one.
+ **/
+@Slf4j
+public final class BrowserPool {
+
+    private static final BrowserPool INSTANCE = new BrowserPool(
+            ConfigProvider.getConfig().browserPoolSize(),
+            ConfigProvider.getConfig().browserPoolMaxUses());
+
+    private final int size;
+    private final int maxUses;
+    private final BlockingQueue<SelenideDriver> idle;
+    private final Semaphore slots;
+    private final Map<SelenideDriver, Integer> uses = new ConcurrentHashMap<>();
+    private final AtomicBoolean warmedUp = new AtomicBoolean();
+
+    private BrowserPool(int size, int maxUses) {
+        this.size = size;
+        this.maxUses = maxUses;
+        this.idle = new LinkedBlockingQueue<>(size);
+        this.slots = new Semaphore(size);
+    }
+
+    public static BrowserPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Binds a parked driver to the current thread, or a new one whose browser starts on first use when the pool is
+     * not full yet; otherwise waits until another test releases its driver.
+     **/
+    public void lease() {
+        try {
+            while (true) {
+                SelenideDriver driver = idle.poll();
+                if (driver == null && slots.tryAcquire()) {
+                    driver = Browsers.newDriver();
+                }
+                if (driver == null) {
+                    driver = idle.poll(100, TimeUnit.MILLISECONDS);
+                }
+                if (driver != null) {
+                    Browsers.bind(driver);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled browser", e);
+        }
+    }
+
+    /**
+     * Unbinds the current thread's driver and parks it for the next test, or closes its browser.
+     **/
+    public void release() {
+        SelenideDriver driver = Browsers.unbind();
+        if (driver == null) {
+            return;
+        }
+        if (!driver.hasWebDriverStarted()) {
+            if (!idle.offer(driver)) {
+                close(driver);
+            }
+            return;
+        }
+        int used = uses.merge(driver, 1, Integer::sum);
+        if (used >= maxUses || !reset(driver.getWebDriver()) || !idle.offer(driver)) {
+            close(driver);
+        }
+    }
+
+    /**
+     * Starts up to {@code size - 1} browsers in the background, the calling thread starts its own on first use.
+     **/
+    public void warmUp() {
+        if (!warmedUp.compareAndSet(false, true)) {
+            return;
+        }
+        for (int i = 1; i < size; i++) {
+            if (!slots.tryAcquire()) {
+                return;
+            }
+            Thread.ofPlatform().daemon().name("browser-warm-up-" + i).start(() -> {
+                SelenideDriver driver = Browsers.newDriver();
+                try {
+                    driver.getAndCheckWebDriver();
+                } catch (WebDriverException e) {
+                    log.warn("Browser warm-up failed: {}", e.getMessage());
+                    close(driver);
+                    return;
+                }
+                if (!idle.offer(driver)) {
+                    close(driver);
+                }
+            });
+        }
+    }
+
+    public void shutdown() {
+        List<SelenideDriver> drivers = new ArrayList<>();
+        idle.drainTo(drivers);
+        drivers.forEach(this::close);
+    }
+
+    /**
+     * Leaves only one fresh, blank tab with no cookies, web storage or granted permissions for the next test.
+     * Every window the test opened (tabs, popups) is closed, and a pending alert is dismissed first since it would
+     * block all other commands.
+     **/
+    private boolean reset(WebDriver driver) {
+        try {
+            dismissAlert(driver);
+            ((JavascriptExecutor) driver).executeScript("try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.manage().deleteAllCookies();
+            if (driver instanceof HasCdp cdp) {
+                // the script above only reaches the current origin, deleteAllCookies the current domain;
+                // permissions outlive tabs
+                for (String origin : visitedOrigins(driver, cdp)) {
+                    cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+                }
+                cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+                cdp.executeCdpCommand("Browser.resetPermissions", Map.of());
+            }
+            List<String> stale = new ArrayList<>(driver.getWindowHandles());
+            driver.switchTo().newWindow(WindowType.TAB);
+            String fresh = driver.getWindowHandle();
+            for (String handle : stale) {
+                driver.switchTo().window(handle).close();
+            }
+            driver.switchTo().window(fresh);
+            return driver.getWindowHandles().size() == 1;
+        } catch (WebDriverException e) {
+            log.warn("Dropping browser that failed to reset: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Origins of every page in the navigation history of every open window, not just the pages currently shown.
+     **/
+    private static Set<String> visitedOrigins(WebDriver driver, HasCdp cdp) {
+        Set<String> origins = new LinkedHashSet<>();
+        String current = driver.getWindowHandle();
+        for (String handle : driver.getWindowHandles()) {
+            driver.switchTo().window(handle);
+            Object entries = cdp.executeCdpCommand("Page.getNavigationHistory", Map.of()).get("entries");
+            if (entries instanceof List<?> list) {
+                for (Object entry : list) {
+                    if (entry instanceof Map<?, ?> page && page.get("url") instanceof String url) {
+                        origin(url).ifPresent(origins::add);
+                    }
+                }
+            }
+        }
+        driver.switchTo().window(current);
+        return origins;
+    }
+
+    private static Optional<String> origin(String url) {
+        try {
+            URI uri = URI.create(url);
+            if ((!"http".equals(uri.getScheme()) && !"https".equals(uri.getScheme())) || uri.getHost() == null) {
+                return Optional.empty();
+            }
+            return Optional.of(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort()));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static void dismissAlert(WebDriver driver) {
+        try {
+            driver.switchTo().alert().dismiss();
+        } catch (NoAlertPresentException e) {
+            // the usual case
+        }
+    }
+
+    private void close(SelenideDriver driver) {
+        uses.remove(driver);
+        try {
+            driver.close();
+        } catch (WebDriverException e) {
+            log.debug("Browser was already gone: {}", e.getMessage());
+        } finally {
+            slots.release();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package ui.driver;
+
+import com.codeborne.selenide.SelenideDriver;
+import config.ConfigProvider;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.file.Path;
+
+/**
+ * Gives every test the browser of its worker: a fresh context in the {@link SharedBrowser} when
+ * {@code ui.browser.shared=true}, leased from {@link BrowserPool} when {@code ui.browser.pool.enabled=true},
+ * otherwise the thread's own driver, whose browser is closed after each test.
+ * Runs after the test's own {@code @AfterEach} methods and hands failures to {@link FailureCapture}.
+ **/
+public class BrowserPoolExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+
+    private static final String STORE_KEY = BrowserPoolExtension.class.getName();
+    private static final String CAPTURE_STORE_KEY = FailureCapture.class.getName();
+    private static final String PROFILE_STORE_KEY = LocatorProfiler.class.getName();
+    private static final boolean SHARED = ConfigProvider.getConfig().browserShared();
+    private static final boolean ENABLED = !SHARED && ConfigProvider.getConfig().browserPoolEnabled();
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getRoot()
+                .getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(CAPTURE_STORE_KEY, key -> (ExtensionContext.Store.CloseableResource) FailureCapture.getInstance()::flush);
+        Path profile = Path.of(ConfigProvider.getConfig().locatorReportDir(), "locator-profile.json");
+        context.getRoot()
+                .getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(PROFILE_STORE_KEY, key -> (ExtensionContext.Store.CloseableResource) () -> LocatorProfiler.export(profile));
+        if (SHARED) {
+            context.getRoot()
+                    .getStore(ExtensionContext.Namespace.GLOBAL)
+                    .getOrComputeIfAbsent(STORE_KEY, key -> (ExtensionContext.Store.CloseableResource) SharedBrowser.getInstance()::shutdown);
+        } else if (ENABLED) {
+            context.getRoot()
+                    .getStore(ExtensionContext.Namespace.GLOBAL)
+                    .getOrComputeIfAbsent(STORE_KEY, key -> (ExtensionContext.Store.CloseableResource) BrowserPool.getInstance()::shutdown);
+        }
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        Browsers.registerListeners();
+        if (SHARED) {
+            SharedBrowser.getInstance().openContext();
+        } else if (ENABLED) {
+            BrowserPool.getInstance().warmUp();
+            BrowserPool.getInstance().lease();
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        SelenideDriver driver = Browsers.current();
+        if (context.getExecutionException().isPresent() && ConfigProvider.getConfig().screenshotsOnFailure()) {
+            FailureCapture.getInstance().capture(driver);
+        }
+        if (SHARED) {
+            SharedBrowser.getInstance().closeContext();
+        } else if (ENABLED) {
+            BrowserPool.getInstance().release();
+        } else if (driver.hasWebDriverStarted()) {
+            driver.close();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package ui.driver;
+
+import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import config.ConfigProvider;
+import io.qameta.allure.selenide.AllureSelenide;
+
+/**
+ * The {@link SelenideDriver} of the current worker thread. Pages and tests go through {@link #current()}
+ * instead of Selenide's static API, so each worker owns its configuration and browser.
+ **/
+public final class Browsers {
+
+    private static final String ALLURE_LISTENER = "AllureSelenide";
+    private static final ThreadLocal<SelenideDriver> CURRENT = new ThreadLocal<>();
+
+    private Browsers() {
+    }
+
+    /**
+     * The driver bound to this thread; created with its own {@link BrowserConfig} on first use and kept afterwards.
+     * The browser itself starts lazily on the first page interaction.
+     **/
+    public static SelenideDriver current() {
+        SelenideDriver driver = CURRENT.get();
+        if (driver == null) {
+            driver = newDriver();
+            CURRENT.set(driver);
+        }
+        return driver;
+    }
+
+    /**
+     * Selenide log listeners are thread-local, so every worker registers Allure reporting and the
+     * {@link LocatorProfiler} for itself, once.
+     **/
+    public static void registerListeners() {
+        if (!SelenideLogger.hasListener(ALLURE_LISTENER)) {
+            // screenshots are taken by BrowserPoolExtension, AllureSelenide only sees the static WebDriverRunner
+            SelenideLogger.addListener(ALLURE_LISTENER, new AllureSelenide()
+                    .screenshots(false)
+                    .savePageSource(false));
+        }
+        if (ConfigProvider.getConfig().locatorProfileEnabled() && !SelenideLogger.hasListener(LocatorProfiler.LISTENER_NAME)) {
+            SelenideLogger.addListener(LocatorProfiler.LISTENER_NAME, new LocatorProfiler());
+        }
+    }
+
+    static SelenideDriver newDriver() {
+        return new SelenideDriver(BrowserConfig.create());
+    }
+
+    static void bind(SelenideDriver driver) {
+        CURRENT.set(driver);
+    }
+
+    static SelenideDriver unbind() {
+        SelenideDriver driver = CURRENT.get();
+        CURRENT.remove();
+        return driver;
+    }
+}
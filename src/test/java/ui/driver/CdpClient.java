@@ -0,0 +1,167 @@
+package ui.driver;
+
+import api.helpers.ObjectMapperProvider;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal Chrome DevTools Protocol connection to the browser-level target (not a page), over the JDK WebSocket
+ * client. Used for the {@code Target} commands that ChromeDriver's page-scoped {@code executeCdpCommand} cannot send.
+ **/
+class CdpClient implements AutoCloseable {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final AtomicInteger ids = new AtomicInteger();
+    private final Map<Integer, CompletableFuture<JsonNode>> pending = new ConcurrentHashMap<>();
+    private final WebSocket socket;
+    private volatile Throwable closedBy;
+
+    private CdpClient(WebSocket socket) {
+        this.socket = socket;
+    }
+
+    /**
+     * Connects to the browser endpoint advertised by {@code http://<debuggerAddress>/json/version}.
+     **/
+    static CdpClient connect(String debuggerAddress) {
+        HttpClient http = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+        try {
+            HttpResponse<String> version = http.send(
+                    HttpRequest.newBuilder(URI.create("http://" + debuggerAddress + "/json/version")).timeout(TIMEOUT).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            String url = ObjectMapperProvider.getMapper().readTree(version.body()).path("webSocketDebuggerUrl").asText();
+            Listener listener = new Listener();
+            CdpClient client = new CdpClient(http.newWebSocketBuilder()
+                    .connectTimeout(TIMEOUT)
+                    .buildAsync(URI.create(url), listener)
+                    .get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+            listener.client = client;
+            return client;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to reach DevTools at " + debuggerAddress, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while connecting to DevTools", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Unable to open DevTools WebSocket at " + debuggerAddress, e);
+        }
+    }
+
+    /**
+     * Sends one command and waits for its result; protocol errors are rethrown as {@link IllegalStateException}.
+     **/
+    JsonNode send(String method, Map<String, Object> params) {
+        int id = ids.incrementAndGet();
+        CompletableFuture<JsonNode> response = new CompletableFuture<>();
+        pending.put(id, response);
+        try {
+            // checked after registering, so a close racing with this call still fails it
+            if (closedBy != null) {
+                throw new IllegalStateException("Cannot send " + method + ", DevTools connection is closed", closedBy);
+            }
+            ObjectNode message = ObjectMapperProvider.getMapper().createObjectNode()
+                    .put("id", id)
+                    .put("method", method);
+            message.set("params", ObjectMapperProvider.getMapper().valueToTree(params));
+            synchronized (socket) {
+                socket.sendText(ObjectMapperProvider.getMapper().writeValueAsString(message), true).join();
+            }
+            JsonNode reply = response.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            if (reply.has("error")) {
+                throw new IllegalStateException(method + " failed: " + reply.get("error"));
+            }
+            return reply.path("result");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize " + method, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + method, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(method + " failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("No reply to " + method, e);
+        } finally {
+            pending.remove(id);
+        }
+    }
+
+    @Override
+    public void close() {
+        socket.sendClose(WebSocket.NORMAL_CLOSURE, "").exceptionally(e -> null);
+        failAll(new IllegalStateException("DevTools connection closed"));
+    }
+
+    /**
+     * Fails every command waiting for a reply, and every later one, instead of letting them run into the timeout.
+     **/
+    private void failAll(Throwable cause) {
+        closedBy = cause;
+        pending.values().forEach(future -> future.completeExceptionally(cause));
+    }
+
+    private void dispatch(String text) {
+        try {
+            JsonNode message = ObjectMapperProvider.getMapper().readTree(text);
+            CompletableFuture<JsonNode> future = message.has("id") ? pending.get(message.get("id").asInt()) : null;
+            if (future != null) {
+                future.complete(message);
+            }
+        } catch (JsonProcessingException e) {
+            // events and replies we cannot parse are not ours to answer
+        }
+    }
+
+    private static final class Listener implements WebSocket.Listener {
+
+        private final StringBuilder buffer = new StringBuilder();
+        private volatile CdpClient client;
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            buffer.append(data);
+            if (last) {
+                String text = buffer.toString();
+                buffer.setLength(0);
+                if (client != null) {
+                    client.dispatch(text);
+                }
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            if (client != null) {
+                client.failAll(new IllegalStateException("DevTools connection closed by the browser (" + statusCode + " " + reason + ")"));
+            }
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            if (client != null) {
+                client.failAll(new IllegalStateException("DevTools connection failed", error));
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package ui.driver;
+
+import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.SelenideElement;
+import config.ConfigProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+
+import static com.codeborne.selenide.Condition.hidden;
+import static com.codeborne.selenide.Condition.visible;
+
+/**
+ * Waits for an element to appear or disappear by observing the DOM from inside the page: an async script
+ * installs a {@code MutationObserver} (plus {@code transitionend}/{@code animationend} listeners for fades)
+ * and returns as soon as the state matches. The state only counts once no transition or animation is running on
+ * the element or its ancestors, and an ancestor at opacity 0 hides it, so a fading modal is not reported early.
+ * When the script cannot run, Selenide's polling wait is used.
+ **/
+@Slf4j
+public final class DomWait {
+
+    private static final String SCRIPT = """
+            const [selector, wantVisible, timeout, done] = arguments;
+            const lineage = element => {
+                const nodes = [];
+                for (let node = element; node instanceof Element; node = node.parentElement) {
+                    nodes.push(node);
+                }
+                return nodes;
+            };
+            // a fade runs on the element or on a wrapper such as Bootstrap's .modal.fade, so every ancestor counts
+            const matches = () => {
+                const element = document.querySelector(selector);
+                if (!element) {
+                    return !wantVisible;
+                }
+                const nodes = lineage(element);
+                // endless animations (spinners) never settle and are ignored
+                const settled = nodes.every(node => !node.getAnimations
+                        || node.getAnimations().every(animation => animation.playState !== 'running'
+                                || animation.effect?.getTiming().iterations === Infinity));
+                const shown = element.getClientRects().length > 0
+                        && getComputedStyle(element).visibility !== 'hidden'
+                        && nodes.every(node => getComputedStyle(node).opacity !== '0');
+                return settled && shown === wantVisible;
+            };
+            if (matches()) {
+                done(true);
+                return;
+            }
+            const check = () => {
+                if (matches()) {
+                    finish(true);
+                }
+            };
+            // transition events fire as the animation ends; look again on the next frame, once it is finished
+            const checkNextFrame = () => requestAnimationFrame(check);
+            const observer = new MutationObserver(check);
+            const timer = setTimeout(() => finish(matches()), timeout);
+            const events = ['transitionend', 'transitioncancel', 'animationend', 'animationcancel'];
+            function finish(result) {
+                observer.disconnect();
+                clearTimeout(timer);
+                events.forEach(type => document.removeEventListener(type, checkNextFrame, true));
+                done(result);
+            }
+            observer.observe(document.documentElement,
+                    {childList: true, subtree: true, attributes: true, attributeFilter: ['class', 'style', 'hidden']});
+            events.forEach(type => document.addEventListener(type, checkNextFrame, true));
+            """;
+
+    private DomWait() {
+    }
+
+    public static void visible(SelenideDriver driver, String cssSelector) {
+        await(driver, cssSelector, true);
+    }
+
+    public static void hidden(SelenideDriver driver, String cssSelector) {
+        await(driver, cssSelector, false);
+    }
+
+    private static void await(SelenideDriver driver, String cssSelector, boolean wantVisible) {
+        SelenideElement element = driver.$(cssSelector);
+        if (!ConfigProvider.getConfig().eventWaitsEnabled()) {
+            poll(element, wantVisible, Duration.ofMillis(driver.config().timeout()));
+            return;
+        }
+        Boolean matched;
+        try {
+            // stays below Selenium's script timeout (30 s by default) as long as ui.timeout does
+            matched = driver.executeAsyncJavaScript(SCRIPT, cssSelector, wantVisible, driver.config().timeout());
+        } catch (WebDriverException e) {
+            log.debug("Event-driven wait for '{}' unavailable, polling instead: {}", cssSelector, e.getMessage());
+            poll(element, wantVisible, Duration.ofMillis(driver.config().timeout()));
+            return;
+        }
+        if (!Boolean.TRUE.equals(matched)) {
+            // the timeout already passed in the page; a last short check produces Selenide's usual error
+            poll(element, wantVisible, Duration.ofMillis(driver.config().pollingInterval()));
+        }
+    }
+
+    private static void poll(SelenideElement element, boolean wantVisible, Duration timeout) {
+        if (wantVisible) {
+            element.shouldBe(visible, timeout);
+        } else {
+            element.shouldBe(hidden, timeout);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package ui.driver;
+
+import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.SelenideElement;
+import config.ConfigProvider;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+/**
+ * Opt-in ({@code ui.element.cache.enabled}) lookup cache for stable, static locators. The found elements are kept
+ * in the page, keyed by locator: the cache lives on {@code window}, so navigation drops it, and a
+ * {@code MutationObserver} clears it when nodes are added, removed or their text changes. The returned element is
+ * still a lazy Selenide element: every command and retry asks the cache again, and an element that was detached by
+ * a re-render is looked up anew, so Selenide's waiting and stale-element recovery stay intact.
+ * Not meant for locators built per call (e.g. XPath with a test value), which can never hit.
+ **/
+public final class ElementCache {
+
+    private static final String SCRIPT = """
+            const [locator, xpath] = arguments;
+            let cache = window.__locatorCache;
+            if (!cache) {
+                cache = window.__locatorCache = new Map();
+                new MutationObserver(() => cache.clear()).observe(document.documentElement,
+                        {childList: true, subtree: true, characterData: true});
+            }
+            let element = cache.get(locator);
+            const hit = !!element && element.isConnected;
+            if (!hit) {
+                element = xpath
+                        ? document.evaluate(locator, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue
+                        : document.querySelector(locator);
+                if (element) {
+                    cache.set(locator, element);
+                } else {
+                    cache.delete(locator);
+                }
+            }
+            return [element, hit];
+            """;
+
+    private static volatile boolean enabled = ConfigProvider.getConfig().elementCacheEnabled();
+
+    private ElementCache() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Switches the cache on or off for the whole run, e.g. for a test of the invalidation rules. Applies to elements
+     * resolved afterwards, so page objects created before the switch keep their lookups.
+     **/
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+
+    /**
+     * @param locator CSS selector, or XPath when it starts with {@code /} or {@code (}
+     **/
+    public static SelenideElement resolve(SelenideDriver driver, String locator) {
+        boolean xpath = LocatorProfiler.isXpath(locator);
+        if (!enabled) {
+            return xpath ? driver.$x(locator) : driver.$(locator);
+        }
+        return driver.$(new CachedBy(locator, xpath));
+    }
+
+    private static final class CachedBy extends By {
+
+        private final String locator;
+        private final boolean xpath;
+
+        private CachedBy(String locator, boolean xpath) {
+            this.locator = locator;
+            this.xpath = xpath;
+        }
+
+        @Override
+        public List<WebElement> findElements(SearchContext context) {
+            By plain = xpath ? By.xpath(locator) : By.cssSelector(locator);
+            if (!(context instanceof JavascriptExecutor executor)) {
+                return plain.findElements(context);
+            }
+            List<?> result = (List<?>) executor.executeScript(SCRIPT, locator, xpath);
+            if (!(result.get(0) instanceof WebElement element)) {
+                return List.of();
+            }
+            if (Boolean.TRUE.equals(result.get(1))) {
+                LocatorProfiler.recordCacheHit(toString());
+            }
+            return List.of(element);
+        }
+
+        @Override
+        public String toString() {
+            return xpath ? "By.xpath: " + locator : locator;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package ui.driver;
+
+import com.codeborne.selenide.SelenideDriver;
+import config.ConfigProvider;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.WebDriverException;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Failure screenshots and page sources, attached to Allure without blocking the test thread. The test thread only
+ * grabs the raw PNG and reserves the attachment; JPEG encoding and writing happen on a background executor.
+ * Identical captures (same SHA-256, e.g. the same broken page across retries) share one attachment file.
+ **/
+@Slf4j
+public final class FailureCapture {
+
+    private static final FailureCapture INSTANCE = new FailureCapture();
+
+    private final ExecutorService encoder = Executors.newFixedThreadPool(2,
+            Thread.ofPlatform().daemon().name("capture-encoder-", 1).factory());
+    private final Map<String, Attachment> written = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+    private final boolean jpeg = isJpeg(ConfigProvider.getConfig().screenshotFormat());
+    private final float quality = ConfigProvider.getConfig().screenshotJpegQuality();
+
+    private FailureCapture() {
+    }
+
+    public static FailureCapture getInstance() {
+        return INSTANCE;
+    }
+
+    public void capture(SelenideDriver driver) {
+        if (!driver.hasWebDriverStarted()) {
+            return;
+        }
+        try {
+            byte[] png = driver.screenshot(OutputType.BYTES);
+            if (jpeg) {
+                attach("Screenshot on failure", "image/jpeg", ".jpg", png, this::toJpeg);
+            } else {
+                attach("Screenshot on failure", "image/png", ".png", png, UnaryOperator.identity());
+            }
+            if (ConfigProvider.getConfig().pageSourceOnFailure()) {
+                attach("Page source on failure", "text/html", ".html",
+                        driver.source().getBytes(StandardCharsets.UTF_8), UnaryOperator.identity());
+            }
+        } catch (WebDriverException e) {
+            // a crashed browser cannot take screenshots; the pool replaces it on release
+        }
+    }
+
+    /**
+     * Waits for pending attachments to reach the results directory; called once at the end of the suite.
+     **/
+    public void flush() {
+        CompletableFuture.allOf(pending.values().toArray(CompletableFuture[]::new)).join();
+        encoder.shutdown();
+        try {
+            encoder.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void attach(String name, String type, String extension, byte[] raw, UnaryOperator<byte[]> encode) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String hash = sha256(raw);
+        Attachment existing = written.get(hash);
+        if (existing != null) {
+            lifecycle.updateTestCase(result -> result.getAttachments().add(new Attachment()
+                    .setName(name)
+                    .setType(existing.getType())
+                    .setSource(existing.getSource())));
+            return;
+        }
+        // links the attachment to the running test now; the file itself is written later
+        String source = lifecycle.prepareAttachment(name, type, extension);
+        Attachment attachment = new Attachment().setName(name).setType(type).setSource(source);
+        written.put(hash, attachment);
+        pending.put(source, CompletableFuture
+                .runAsync(() -> lifecycle.writeAttachment(source, new ByteArrayInputStream(encode.apply(raw))), encoder)
+                .whenComplete((ignored, error) -> {
+                    pending.remove(source);
+                    if (error != null) {
+                        // later identical captures must write their own file instead of linking to a missing one
+                        written.remove(hash, attachment);
+                        log.warn("Could not write attachment {}: {}", source, error.getMessage());
+                    }
+                }));
+    }
+
+    /**
+     * {@code ui.screenshots.format} accepts png, jpeg and jpg; anything else is a configuration error, not a silent PNG.
+     **/
+    private static boolean isJpeg(String format) {
+        return switch (format.trim().toLowerCase(Locale.ROOT)) {
+            case "jpeg", "jpg" -> true;
+            case "png" -> false;
+            default -> throw new IllegalArgumentException("ui.screenshots.format must be png, jpeg or jpg, was '" + format + "'");
+        };
+    }
+
+    private byte[] toJpeg(byte[] png) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            if (image == null) {
+                throw new IllegalStateException("Screenshot is not an image ImageIO can decode (" + png.length + " bytes)");
+            }
+            // JPEG has no alpha channel
+            BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = rgb.createGraphics();
+            try {
+                graphics.drawImage(image, 0, 0, null);
+            } finally {
+                graphics.dispose();
+            }
+
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+                writer.setOutput(stream);
+                writer.write(null, new IIOImage(rgb, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to encode screenshot", e);
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package ui.driver;
+
+import api.helpers.ObjectMapperProvider;
+import com.codeborne.selenide.logevents.LogEvent;
+import com.codeborne.selenide.logevents.LogEventListener;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import config.ConfigProvider;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Times element lookups per locator across the suite. Selenide resolves elements lazily inside every command, so
+ * the listener records each element command's duration under its locator; {@link ElementCache} adds its cache
+ * hits. XPath, deep CSS (more than {@code ui.locator.max.depth} compound
+ * selectors) and commands slower than {@code ui.locator.slow.millis} are logged once per locator, and the
+ * totals are exported to {@code ui.locator.report.dir} when the suite ends.
+ **/
+@Slf4j
+public final class LocatorProfiler implements LogEventListener {
+
+    public static final String LISTENER_NAME = "LocatorProfiler";
+
+    private static final Pattern COMBINATOR = Pattern.compile("\\s*[>+~]\\s*|\\s+");
+    private static final Map<String, Stats> STATS = new ConcurrentHashMap<>();
+    private static final Set<String> FLAGGED = ConcurrentHashMap.newKeySet();
+    private static final int MAX_DEPTH = ConfigProvider.getConfig().locatorMaxDepth();
+    private static final long SLOW_MILLIS = ConfigProvider.getConfig().locatorSlowMillis();
+
+    @Override
+    public void afterEvent(LogEvent event) {
+        String locator = event.getElement();
+        // "<tag ...>" describes an element wrapped from a WebElement, not a locator
+        if (locator == null || locator.isBlank() || "open".equals(locator) || locator.startsWith("<")) {
+            return;
+        }
+        record(locator, event.getDuration() * 1_000_000L);
+    }
+
+    @Override
+    public void beforeEvent(LogEvent event) {
+    }
+
+    static void record(String locator, long nanos) {
+        Stats stats = STATS.computeIfAbsent(locator, key -> new Stats());
+        stats.calls.increment();
+        stats.totalNanos.add(nanos);
+        stats.maxNanos.accumulateAndGet(nanos, Math::max);
+        flag(locator, nanos);
+    }
+
+    static void recordCacheHit(String locator) {
+        STATS.computeIfAbsent(locator, key -> new Stats()).cacheHits.increment();
+    }
+
+    static boolean isXpath(String locator) {
+        return locator.startsWith("By.xpath") || locator.startsWith("/") || locator.startsWith("(");
+    }
+
+    static int depth(String cssSelector) {
+        return COMBINATOR.split(cssSelector.replaceAll("\\[[^]]*]|\\([^)]*\\)", "[]").trim()).length;
+    }
+
+    public static void export(Path file) {
+        if (STATS.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, Stats>> slowestFirst = STATS.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Stats> entry) -> entry.getValue().totalNanos.sum()).reversed())
+                .toList();
+        Map<String, Map<String, Object>> report = new LinkedHashMap<>();
+        for (Map.Entry<String, Stats> entry : slowestFirst) {
+            Stats stats = entry.getValue();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("calls", stats.calls.sum());
+            row.put("cacheHits", stats.cacheHits.sum());
+            row.put("totalMillis", stats.totalNanos.sum() / 1_000_000.0);
+            row.put("maxMillis", stats.maxNanos.get() / 1_000_000.0);
+            row.put("xpath", isXpath(entry.getKey()));
+            row.put("flagged", FLAGGED.contains(entry.getKey()));
+            report.put(entry.getKey(), row);
+        }
+        slowestFirst.stream().limit(5).forEach(entry -> log.info("Locator {}: {} calls, {} ms total",
+                entry.getKey(), entry.getValue().calls.sum(), entry.getValue().totalNanos.sum() / 1_000_000));
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, ObjectMapperProvider.getMapper().writerWithDefaultPrettyPrinter().writeValueAsString(report));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize locator profile", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write locator profile to " + file, e);
+        }
+    }
+
+    private static void flag(String locator, long nanos) {
+        String reason = isXpath(locator) ? "XPath locator"
+                : depth(locator) > MAX_DEPTH ? "selector deeper than " + MAX_DEPTH
+                : nanos > SLOW_MILLIS * 1_000_000L ? "slow lookup (" + nanos / 1_000_000 + " ms)"
+                : null;
+        if (reason != null && FLAGGED.add(locator)) {
+            log.warn("{}: {}", reason, locator);
+        }
+    }
+
+    private static final class Stats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder cacheHits = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+    }
+}
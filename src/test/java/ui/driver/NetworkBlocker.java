@@ -0,0 +1,40 @@
+package ui.driver;
+
+import config.ConfigProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stops the browser from fetching third-party hosts (ads, analytics) and heavy media that UI tests
+ * never look at, using Chrome DevTools {@code Network.setBlockedURLs}. The block list is per tab, so it is applied
+ * before every navigation; browsers without CDP load everything as before.
+ **/
+@Slf4j
+public final class NetworkBlocker {
+
+    private static final List<String> BLOCKED_URLS = List.of(ConfigProvider.getConfig().blockedUrlPatterns());
+
+    private NetworkBlocker() {
+    }
+
+    public static void apply(WebDriver driver) {
+        if (!ConfigProvider.getConfig().networkBlockingEnabled() || BLOCKED_URLS.isEmpty()) {
+            return;
+        }
+        if (!(driver instanceof HasCdp cdp)) {
+            log.debug("{} has no CDP, request blocking skipped", driver.getClass().getSimpleName());
+            return;
+        }
+        try {
+            cdp.executeCdpCommand("Network.enable", Map.of());
+            cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", BLOCKED_URLS));
+        } catch (WebDriverException e) {
+            log.warn("Could not block requests: {}", e.getMessage());
+        }
+    }
+}
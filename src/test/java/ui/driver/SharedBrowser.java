@@ -0,0 +1,129 @@
+package ui.driver;
+
+import com.codeborne.selenide.SelenideDriver;
+import config.ConfigProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * One Chrome process shared by all UI workers ({@code ui.browser.shared=true}). A host session launches the browser;
+ * each worker's driver attaches to it through {@code debuggerAddress}, and every test runs in its own browser context
+ * (an incognito-like profile with separate cookies, storage and cache), created over CDP and disposed afterwards.
+ **/
+@Slf4j
+public final class SharedBrowser {
+
+    private static final SharedBrowser INSTANCE = new SharedBrowser();
+
+    private final ThreadLocal<String> contexts = new ThreadLocal<>();
+    private final Set<String> openContexts = ConcurrentHashMap.newKeySet();
+    private final List<SelenideDriver> workers = new CopyOnWriteArrayList<>();
+    private SelenideDriver host;
+    private String debuggerAddress;
+    private CdpClient cdp;
+
+    private SharedBrowser() {
+    }
+
+    public static SharedBrowser getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts the shared browser on first use and returns its DevTools address, e.g. {@code localhost:41235}.
+     **/
+    public synchronized String getDebuggerAddress() {
+        if (debuggerAddress == null) {
+            if (!"chrome".equalsIgnoreCase(ConfigProvider.getConfig().browser())) {
+                throw new IllegalStateException("ui.browser.shared requires chrome, not " + ConfigProvider.getConfig().browser());
+            }
+            host = new SelenideDriver(BrowserConfig.standalone());
+            Object options = ((HasCapabilities) host.getAndCheckWebDriver()).getCapabilities().getCapability("goog:chromeOptions");
+            debuggerAddress = String.valueOf(((Map<?, ?>) options).get("debuggerAddress"));
+            cdp = CdpClient.connect(debuggerAddress);
+            log.info("Shared browser started, DevTools at {}", debuggerAddress);
+        }
+        return debuggerAddress;
+    }
+
+    /**
+     * Creates a fresh browser context with one blank tab and switches the current worker's driver to it.
+     **/
+    public void openContext() {
+        SelenideDriver driver = Browsers.current();
+        String address = getDebuggerAddress();
+        if (!workers.contains(driver)) {
+            workers.add(driver);
+        }
+        String contextId = cdp.send("Target.createBrowserContext", Map.of("disposeOnDetach", true))
+                .path("browserContextId").asText();
+        openContexts.add(contextId);
+        contexts.set(contextId);
+        String targetId = cdp.send("Target.createTarget", Map.of(
+                        "url", "about:blank",
+                        "browserContextId", contextId,
+                        "width", 1920,
+                        "height", 1080))
+                .path("targetId").asText();
+        // ChromeDriver uses DevTools target ids as window handles
+        driver.getAndCheckWebDriver().switchTo().window(targetId);
+        log.debug("Opened browser context {} on {}", contextId, address);
+    }
+
+    /**
+     * Disposes the current worker's context, which closes its tabs and drops its cookies, storage and cache.
+     **/
+    public void closeContext() {
+        String contextId = contexts.get();
+        contexts.remove();
+        if (contextId != null) {
+            dispose(contextId);
+        }
+    }
+
+    /**
+     * Disposes every context still open (e.g. from a worker that died mid-test), then quits the worker sessions and,
+     * last, the host session that owns the browser process.
+     **/
+    public synchronized void shutdown() {
+        if (cdp != null) {
+            List.copyOf(openContexts).forEach(this::dispose);
+        }
+        openContexts.clear();
+        workers.forEach(SharedBrowser::close);
+        workers.clear();
+        if (cdp != null) {
+            cdp.close();
+            cdp = null;
+        }
+        if (host != null) {
+            close(host);
+            host = null;
+        }
+        debuggerAddress = null;
+    }
+
+    private void dispose(String contextId) {
+        openContexts.remove(contextId);
+        try {
+            cdp.send("Target.disposeBrowserContext", Map.of("browserContextId", contextId));
+        } catch (IllegalStateException e) {
+            log.warn("Could not dispose browser context {}: {}", contextId, e.getMessage());
+        }
+    }
+
+    private static void close(SelenideDriver driver) {
+        try {
+            driver.close();
+        } catch (WebDriverException e) {
+            log.debug("Browser session was already gone: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package ui.fixture;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import config.ConfigProvider;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process stand-in for the demoqa pages used by the UI suites. Serves the static fixture app under
+ * {@code src/test/resources/fixture-site}, which reproduces the DOM contracts of {@code FormPage} and
+ * {@code WebTablePage} (ids, react-select inputs, react-table classes, modals) without ads or network access.
+ **/
+@Slf4j
+public class FixtureSiteServer implements AutoCloseable {
+
+    private static final String RESOURCE_ROOT = "fixture-site/";
+    private static final Map<String, String> PAGES = Map.of(
+            "/automation-practice-form", "automation-practice-form.html",
+            "/webtables", "webtables.html");
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "js", "text/javascript; charset=utf-8");
+
+    private final int requestedPort;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public FixtureSiteServer(int port) {
+        this.requestedPort = port;
+    }
+
+    /**
+     * Suite-wide instance used when {@code ui.fixture.enabled=true}; started on first use and stopped on JVM exit.
+     **/
+    public static FixtureSiteServer shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    public synchronized FixtureSiteServer start() {
+        if (server != null) {
+            return this;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), requestedPort), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to start fixture site on port " + requestedPort, e);
+        }
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::serve);
+        server.start();
+        log.info("Fixture site started at {}", getBaseUrl());
+        return this;
+    }
+
+    public String getBaseUrl() {
+        if (server == null) {
+            throw new IllegalStateException("Fixture site is not started");
+        }
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.close();
+        server = null;
+        log.info("Fixture site stopped");
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String name = PAGES.getOrDefault(path.replaceAll("/+$", ""), path.substring(1));
+            byte[] body = name.isEmpty() || name.contains("..") ? null : read(name);
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            String extension = name.substring(name.lastIndexOf('.') + 1);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPES.getOrDefault(extension, "application/octet-stream"));
+            exchange.getResponseHeaders().set("Cache-Control", "no-store");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+
+    private static byte[] read(String name) throws IOException {
+        try (InputStream input = FixtureSiteServer.class.getClassLoader().getResourceAsStream(RESOURCE_ROOT + name)) {
+            return input == null ? null : input.readAllBytes();
+        }
+    }
+
+    private static final class SharedHolder {
+
+        private static final FixtureSiteServer INSTANCE = createShared();
+
+        private static FixtureSiteServer createShared() {
+            FixtureSiteServer server = new FixtureSiteServer(ConfigProvider.getConfig().uiFixturePort()).start();
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "fixture-site-shutdown"));
+            return server;
+        }
+    }
+}
@@ -1,25 +1,153 @@
 package ui.pages;
 
-import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.ElementsCollection;
+import com.codeborne.selenide.SelenideDriver;
 import com.codeborne.selenide.SelenideElement;
 import io.qameta.allure.Step;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import ui.driver.Browsers;
+import ui.driver.DomWait;
+import ui.driver.ElementCache;
+import ui.driver.NetworkBlocker;
 
-import static com.codeborne.selenide.Selenide.executeJavaScript;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 public abstract class BasePage {
 
+    private static final String FILL_SCRIPT = """
+            const [values, timeout, done] = arguments;
+            const selectors = Object.keys(values);
+            const pending = () => selectors.filter(selector => {
+                const element = document.querySelector(selector);
+                return !element || element.getClientRects().length === 0 || element.disabled;
+            });
+            const deadline = Date.now() + timeout;
+            const fill = () => {
+                const notReady = pending();
+                if (notReady.length === 0) {
+                    done({values: setValues()});
+                } else if (Date.now() >= deadline) {
+                    done({notReady});
+                } else {
+                    setTimeout(fill, 25);
+                }
+            };
+            const setValues = () => {
+                const result = {};
+                for (const [selector, value] of Object.entries(values)) {
+                    const element = document.querySelector(selector);
+                    if (!element) {
+                        continue;
+                    }
+                    const prototype = element instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype
+                            : element instanceof HTMLSelectElement ? HTMLSelectElement.prototype
+                            : HTMLInputElement.prototype;
+                    Object.getOwnPropertyDescriptor(prototype, 'value').set.call(element, value);
+                    element.dispatchEvent(new Event('input', {bubbles: true}));
+                    element.dispatchEvent(new Event('change', {bubbles: true}));
+                    result[selector] = element.value;
+                }
+                return result;
+            };
+            fill();
+            """;
+
+    private static final long SCRIPT_TIMEOUT_MARGIN_MILLIS = 5_000;
+
+    private final SelenideDriver driver = Browsers.current();
+
     @Step("Open page: {url}")
     public void open(String url) {
-        Selenide.open(url);
+        NetworkBlocker.apply(driver.getAndCheckWebDriver());
+        driver.open(url);
+    }
+
+    protected SelenideDriver driver() {
+        return driver;
+    }
+
+    protected SelenideElement $(String cssSelector) {
+        return driver.$(cssSelector);
+    }
+
+    protected ElementsCollection $$(String cssSelector) {
+        return driver.$$(cssSelector);
+    }
+
+    protected SelenideElement $x(String xpathExpression) {
+        return driver.$x(xpathExpression);
+    }
+
+    /**
+     * Like {@link #$(String)} / {@link #$x(String)}, but served from the in-page {@link ElementCache} while the DOM is
+     * unchanged. Only for stable, static locators; falls back to plain lookups unless {@code ui.element.cache.enabled}.
+     **/
+    protected SelenideElement cached(String locator) {
+        return ElementCache.resolve(driver, locator);
+    }
+
+    protected void waitUntilVisible(String cssSelector) {
+        DomWait.visible(driver, cssSelector);
+    }
+
+    protected void waitUntilHidden(String cssSelector) {
+        DomWait.hidden(driver, cssSelector);
+    }
+
+    /**
+     * Sets every field (CSS selector to value) in one browser round trip, once all of them are rendered and enabled
+     * (the script polls in the page for up to the Selenide timeout, so it is safe right after an eager page load).
+     * The WebDriver script timeout is raised above that poll for the call, so a slow page fails with the fields
+     * still missing rather than a bare script timeout. Values go through the native
+     * value setter followed by bubbling input/change events, so React-controlled inputs pick them up;
+     * the values are then read back in the same script and compared.
+     **/
+    @Step("Fill fields: {values}")
+    protected void fill(Map<String, String> values) {
+        long timeout = driver.config().timeout();
+        WebDriver.Timeouts timeouts = driver.getWebDriver().manage().timeouts();
+        Duration previous = timeouts.getScriptTimeout();
+        timeouts.scriptTimeout(Duration.ofMillis(timeout + SCRIPT_TIMEOUT_MARGIN_MILLIS));
+        Map<String, Object> result;
+        try {
+            result = driver.executeAsyncJavaScript(FILL_SCRIPT, values, timeout);
+        } catch (ScriptTimeoutException e) {
+            throw new AssertionError("Bulk fill script did not finish within " + (timeout + SCRIPT_TIMEOUT_MARGIN_MILLIS)
+                    + " ms for " + values.keySet(), e);
+        } finally {
+            timeouts.scriptTimeout(previous);
+        }
+        if (result.get("notReady") != null) {
+            throw new AssertionError("Bulk fill failed, fields not rendered and enabled within " + timeout + " ms: "
+                    + result.get("notReady"));
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> actual = (Map<String, Object>) result.get("values");
+        List<String> mismatches = new ArrayList<>();
+        values.forEach((selector, expected) -> {
+            Object value = actual == null ? null : actual.get(selector);
+            if (value == null) {
+                mismatches.add(selector + ": element not found");
+            } else if (!expected.equals(value)) {
+                mismatches.add(selector + ": expected '" + expected + "' but was '" + value + "'");
+            }
+        });
+        if (!mismatches.isEmpty()) {
+            throw new AssertionError("Bulk fill failed:\n" + String.join("\n", mismatches));
+        }
     }
 
     @Step("Scroll element into view")
     protected void scrollToElement(SelenideElement element) {
-        executeJavaScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", element);
+        driver.executeJavaScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", element);
     }
 
     @Step("Click element using JavaScript")
     protected void clickWithJS(SelenideElement element) {
-        executeJavaScript("arguments[0].click();", element);
+        driver.executeJavaScript("arguments[0].click();", element);
     }
 }
@@ -4,29 +4,31 @@ import com.codeborne.selenide.SelenideElement;
 import io.qameta.allure.Step;
 
 import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static com.codeborne.selenide.Condition.text;
 import static com.codeborne.selenide.Condition.visible;
-import static com.codeborne.selenide.Selenide.$;
-import static com.codeborne.selenide.Selenide.$x;
 
 public class FormPage extends BasePage {
 
-    private final SelenideElement firstNameInput = $("#firstName");
-    private final SelenideElement lastNameInput = $("#lastName");
-    private final SelenideElement emailInput = $("#userEmail");
-    private final SelenideElement mobileInput = $("#userNumber");
-    private final SelenideElement subjectsInput = $("#subjectsInput");
-    private final SelenideElement currentAddressInput = $("#currentAddress");
-    private final SelenideElement stateDropdown = $("#state");
-    private final SelenideElement cityDropdown = $("#city");
-    private final SelenideElement submitButton = $("#submit");
-    private final SelenideElement uploadPictureInput = $("#uploadPicture");
-    private final SelenideElement dateOfBirthInput = $("#dateOfBirthInput");
-
-    private final SelenideElement successModal = $(".modal-dialog");
-    private final SelenideElement successModalTitle = $("#example-modal-sizes-title-lg");
-    private final SelenideElement closeModalButton = $("#closeLargeModal");
+    private static final String SUCCESS_MODAL = ".modal-dialog";
+
+    private final SelenideElement firstNameInput = cached("#firstName");
+    private final SelenideElement lastNameInput = cached("#lastName");
+    private final SelenideElement emailInput = cached("#userEmail");
+    private final SelenideElement mobileInput = cached("#userNumber");
+    private final SelenideElement subjectsInput = cached("#subjectsInput");
+    private final SelenideElement currentAddressInput = cached("#currentAddress");
+    private final SelenideElement stateDropdown = cached("#state");
+    private final SelenideElement cityDropdown = cached("#city");
+    private final SelenideElement submitButton = cached("#submit");
+    private final SelenideElement uploadPictureInput = cached("#uploadPicture");
+    private final SelenideElement dateOfBirthInput = cached("#dateOfBirthInput");
+
+    private final SelenideElement successModal = cached(SUCCESS_MODAL);
+    private final SelenideElement successModalTitle = cached("#example-modal-sizes-title-lg");
+    private final SelenideElement closeModalButton = cached("#closeLargeModal");
 
     @Step("Fill first name: {firstName}")
     public FormPage fillFirstName(String firstName) {
@@ -46,6 +48,24 @@ public class FormPage extends BasePage {
         return this;
     }
 
+    @Step("Fill personal details: {firstName} {lastName}, {mobile}")
+    public FormPage fillPersonalDetails(String firstName, String lastName, String mobile) {
+        return fillPersonalDetails(firstName, lastName, null, mobile);
+    }
+
+    @Step("Fill personal details: {firstName} {lastName}, {email}, {mobile}")
+    public FormPage fillPersonalDetails(String firstName, String lastName, String email, String mobile) {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("#firstName", firstName);
+        values.put("#lastName", lastName);
+        if (email != null) {
+            values.put("#userEmail", email);
+        }
+        values.put("#userNumber", mobile);
+        fill(values);
+        return this;
+    }
+
     @Step("Select gender: {gender}")
     public FormPage selectGender(String gender) {
         String genderLabelXpath = String.format("//label[contains(text(),'%s')]", gender);
@@ -81,8 +101,9 @@ public class FormPage extends BasePage {
     public FormPage selectHobbies(String... hobbies) {
         for (String hobby : hobbies) {
             String hobbyLabelXpath = String.format("//label[contains(text(),'%s')]", hobby);
-            scrollToElement($x(hobbyLabelXpath));
-            $x(hobbyLabelXpath).click();
+            SelenideElement hobbyLabel = $x(hobbyLabelXpath);
+            scrollToElement(hobbyLabel);
+            hobbyLabel.click();
         }
         return this;
     }
@@ -121,7 +142,7 @@ public class FormPage extends BasePage {
 
     @Step("Verify success modal is displayed")
     public FormPage verifySuccessModalDisplayed() {
-        successModal.shouldBe(visible);
+        waitUntilVisible(SUCCESS_MODAL);
         successModalTitle.shouldHave(text("Thanks for submitting the form"));
         return this;
     }
@@ -136,7 +157,7 @@ public class FormPage extends BasePage {
     @Step("Close success modal")
     public FormPage closeModal() {
         closeModalButton.click();
-        successModal.shouldNotBe(visible);
+        waitUntilHidden(SUCCESS_MODAL);
         return this;
     }
 
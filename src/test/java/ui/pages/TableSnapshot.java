@@ -0,0 +1,68 @@
+package ui.pages;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable copy of the visible web table cells, taken with a single JavaScript call.
+ * Padding rows (all cells blank) are dropped; data rows are indexed by email.
+ **/
+public final class TableSnapshot {
+
+    public static final int EMAIL_COLUMN = 3;
+
+    static final String SCRIPT = """
+            return Array.from(document.querySelectorAll('.rt-tr-group'), group =>
+                    Array.from(group.querySelectorAll('.rt-td'), cell => cell.textContent.trim()));
+            """;
+
+    private final List<List<String>> rows;
+    private final Map<String, List<String>> rowsByEmail;
+
+    public TableSnapshot(List<List<String>> cells) {
+        this.rows = cells == null ? List.of() : cells.stream()
+                .filter(row -> row.stream().anyMatch(cell -> !cell.isEmpty()))
+                .map(List::copyOf)
+                .toList();
+        Map<String, List<String>> index = new HashMap<>();
+        for (List<String> row : rows) {
+            if (row.size() > EMAIL_COLUMN) {
+                index.putIfAbsent(row.get(EMAIL_COLUMN), row);
+            }
+        }
+        this.rowsByEmail = Collections.unmodifiableMap(index);
+    }
+
+    public List<List<String>> getRows() {
+        return rows;
+    }
+
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    public boolean contains(String email) {
+        return rowsByEmail.containsKey(email);
+    }
+
+    public Optional<List<String>> findByEmail(String email) {
+        return Optional.ofNullable(rowsByEmail.get(email));
+    }
+
+    /**
+     * Case-insensitive substring match on the row's text, like Selenide's {@code text} condition on the row element.
+     **/
+    public static boolean hasText(List<String> row, String text) {
+        return String.join(" ", row).toLowerCase(Locale.ROOT).contains(text.toLowerCase(Locale.ROOT));
+    }
+
+    public String[][] toArray() {
+        return rows.stream()
+                .map(row -> row.toArray(String[]::new))
+                .toArray(String[][]::new);
+    }
+}
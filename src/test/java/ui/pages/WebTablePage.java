@@ -4,29 +4,33 @@ import com.codeborne.selenide.ElementsCollection;
 import com.codeborne.selenide.SelenideElement;
 import io.qameta.allure.Step;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
 import static com.codeborne.selenide.Condition.*;
-import static com.codeborne.selenide.Selenide.*;
 
 public class WebTablePage extends BasePage {
 
-    private final SelenideElement addButton = $("#addNewRecordButton");
-    private final SelenideElement searchBox = $("#searchBox");
-    private final ElementsCollection tableRows = $$(".rt-tr-group");
+    private static final String REGISTRATION_FORM_MODAL = ".modal-content";
+
+    private final SelenideElement addButton = cached("#addNewRecordButton");
+    private final SelenideElement searchBox = cached("#searchBox");
     private final ElementsCollection tableHeaders = $$(".rt-th");
 
-    private final SelenideElement registrationFormModal = $(".modal-content");
-    private final SelenideElement firstNameInput = $("#firstName");
-    private final SelenideElement lastNameInput = $("#lastName");
-    private final SelenideElement emailInput = $("#userEmail");
-    private final SelenideElement ageInput = $("#age");
-    private final SelenideElement salaryInput = $("#salary");
-    private final SelenideElement departmentInput = $("#department");
-    private final SelenideElement submitButton = $("#submit");
+    private final SelenideElement firstNameInput = cached("#firstName");
+    private final SelenideElement lastNameInput = cached("#lastName");
+    private final SelenideElement emailInput = cached("#userEmail");
+    private final SelenideElement ageInput = cached("#age");
+    private final SelenideElement salaryInput = cached("#salary");
+    private final SelenideElement departmentInput = cached("#department");
+    private final SelenideElement submitButton = cached("#submit");
 
     @Step("Click Add button")
     public WebTablePage clickAdd() {
         addButton.click();
-        registrationFormModal.shouldBe(visible);
+        waitUntilVisible(REGISTRATION_FORM_MODAL);
         return this;
     }
 
@@ -69,19 +73,21 @@ public class WebTablePage extends BasePage {
     @Step("Submit form")
     public WebTablePage submitForm() {
         submitButton.click();
-        registrationFormModal.shouldNotBe(visible);
+        waitUntilHidden(REGISTRATION_FORM_MODAL);
         return this;
     }
 
     @Step("Add new record")
     public WebTablePage addRecord(String firstName, String lastName, String email, String age, String salary, String department) {
         clickAdd();
-        fillFirstName(firstName);
-        fillLastName(lastName);
-        fillEmail(email);
-        fillAge(age);
-        fillSalary(salary);
-        fillDepartment(department);
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("#firstName", firstName);
+        values.put("#lastName", lastName);
+        values.put("#userEmail", email);
+        values.put("#age", age);
+        values.put("#salary", salary);
+        values.put("#department", department);
+        fill(values);
         submitForm();
         return this;
     }
@@ -102,7 +108,7 @@ public class WebTablePage extends BasePage {
     public WebTablePage editRecord(String email) {
         String editButtonXpath = String.format("//div[text()='%s']/parent::div/parent::div//span[@title='Edit']", email);
         $x(editButtonXpath).click();
-        registrationFormModal.shouldBe(visible);
+        waitUntilVisible(REGISTRATION_FORM_MODAL);
         return this;
     }
 
@@ -127,9 +133,15 @@ public class WebTablePage extends BasePage {
         return this;
     }
 
+    /** Reads the whole grid in one round trip; row and record queries below are answered from it. **/
+    public TableSnapshot snapshot() {
+        List<List<String>> cells = driver().executeJavaScript(TableSnapshot.SCRIPT);
+        return new TableSnapshot(cells);
+    }
+
     @Step("Verify record exists with email: {email}")
     public boolean isRecordPresent(String email) {
-        return $$(".rt-td").findBy(text(email)).exists();
+        return snapshot().contains(email);
     }
 
     @Step("Verify record does not exist with email: {email}")
@@ -139,18 +151,19 @@ public class WebTablePage extends BasePage {
 
     @Step("Get number of rows in table")
     public int getRowCount() {
-        return (int) tableRows.asFixedIterable().stream()
-                .filter(row -> !row.text().isEmpty())
-                .count();
+        return snapshot().getRowCount();
     }
 
     @Step("Verify record contains data")
     public WebTablePage verifyRecordData(String email, String firstName, String lastName) {
-        String rowXpath = String.format("//div[text()='%s']/parent::div", email);
-        SelenideElement row = $x(rowXpath);
-        row.shouldHave(text(firstName));
-        row.shouldHave(text(lastName));
-        row.shouldHave(text(email));
+        TableSnapshot snapshot = awaitSnapshot(table -> table.findByEmail(email)
+                .filter(row -> TableSnapshot.hasText(row, firstName) && TableSnapshot.hasText(row, lastName))
+                .isPresent());
+        List<String> row = snapshot.findByEmail(email)
+                .orElseThrow(() -> new AssertionError("No row with email " + email));
+        if (!TableSnapshot.hasText(row, firstName) || !TableSnapshot.hasText(row, lastName)) {
+            throw new AssertionError(String.format("Row %s does not contain %s %s", row, firstName, lastName));
+        }
         return this;
     }
 
@@ -162,22 +175,39 @@ public class WebTablePage extends BasePage {
 
     @Step("Get first row email")
     public String getFirstRowEmail() {
-        return $$(".rt-td").get(3).text();
+        List<List<String>> rows = awaitSnapshot(table -> table.getRowCount() > 0).getRows();
+        if (rows.isEmpty()) {
+            throw new AssertionError("Web table has no rows after " + driver().config().timeout() + " ms");
+        }
+        List<String> first = rows.get(0);
+        if (first.size() <= TableSnapshot.EMAIL_COLUMN) {
+            throw new AssertionError("First row has no email column: " + first);
+        }
+        return first.get(TableSnapshot.EMAIL_COLUMN);
     }
 
     @Step("Verify search results count: {expectedCount}")
     public WebTablePage verifySearchResultsCount(int expectedCount) {
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        int actualCount = awaitSnapshot(table -> table.getRowCount() == expectedCount).getRowCount();
+        if (actualCount != expectedCount) {
+            throw new AssertionError(String.format("Expected %d results but got %d", expectedCount, actualCount));
         }
-
-        int actualCount = (int) tableRows.asFixedIterable().stream()
-                .filter(row -> !row.text().isEmpty() && row.$$(".rt-td").size() > 0 && !row.$(".rt-td").text().trim().isEmpty())
-                .count();
-
-        assert actualCount == expectedCount : String.format("Expected %d results but got %d", expectedCount, actualCount);
         return this;
     }
+
+    /** Re-reads the table until the condition holds or the Selenide timeout passes; returns the last snapshot. **/
+    private TableSnapshot awaitSnapshot(Predicate<TableSnapshot> condition) {
+        long deadline = System.currentTimeMillis() + driver().config().timeout();
+        TableSnapshot snapshot = snapshot();
+        while (!condition.test(snapshot) && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(driver().config().pollingInterval());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            snapshot = snapshot();
+        }
+        return snapshot;
+    }
 }
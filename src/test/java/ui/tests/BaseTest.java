@@ -1,65 +1,33 @@
 package ui.tests;
 
-import com.codeborne.selenide.Configuration;
-import com.codeborne.selenide.Selenide;
-import com.codeborne.selenide.logevents.SelenideLogger;
-import config.ConfigProvider;
-import io.qameta.allure.selenide.AllureSelenide;
 import org.junit.jupiter.api.AfterEach;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
-
+import org.junit.jupiter.api.extension.ExtendWith;
+import ui.driver.BrowserConfig;
+import ui.driver.BrowserPoolExtension;
+
+/**
+ * Browser settings come from config.properties through {@link ui.driver.BrowserConfig}, per worker thread;
+ * nothing here touches Selenide's global {@code Configuration}.
+ **/
+@ExtendWith(BrowserPoolExtension.class)
 public abstract class BaseTest {
 
-    @BeforeAll
-    public static void setUpAll() {
-        // Configure Selenide from config.properties
-        Configuration.browser = ConfigProvider.getConfig().browser();
-        Configuration.headless = ConfigProvider.getConfig().headless();
-
-        Configuration.timeout = System.getProperty("ui.timeout") != null
-            ? Integer.parseInt(System.getProperty("ui.timeout"))
-            : ConfigProvider.getConfig().timeout();
-
-        Configuration.baseUrl = ConfigProvider.getConfig().uiBaseUrl();
-
-        Configuration.pageLoadTimeout = System.getProperty("selenide.pageLoadTimeout") != null
-            ? Integer.parseInt(System.getProperty("selenide.pageLoadTimeout"))
-            : 30000;
-
-        Configuration.browserSize = "1920x1080";
-        Configuration.screenshots = ConfigProvider.getConfig().screenshotsOnFailure();
-        Configuration.savePageSource = false;
-        Configuration.reopenBrowserOnFail = false;
-        Configuration.fastSetValue = false;
-
-        if (Configuration.headless) {
-            Configuration.browserCapabilities.setCapability("goog:chromeOptions",
-                java.util.Map.of("args", java.util.List.of(
-                    "--headless",
-                    "--no-sandbox",
-                    "--disable-dev-shm-usage",
-                    "--disable-gpu",
-                    "--disable-extensions",
-                    "--disable-blink-features=AutomationControlled",
-                    "--window-size=1920,1080"
-                ))
-            );
-        }
-
-        // Add Allure listener for Selenide
-        SelenideLogger.addListener("AllureSelenide",
-                new AllureSelenide()
-                        .screenshots(true)
-                        .savePageSource(false));
+    /**
+     * Base URL of the pages under test: demoqa, or the local fixture site when {@code ui.fixture.enabled=true}.
+     **/
+    protected static String uiBaseUrl() {
+        return BrowserConfig.baseUrl();
     }
 
     @BeforeEach
     public void setUp() {
     }
 
+    /**
+     * The browser itself is returned to the pool, or closed, by {@link BrowserPoolExtension} after this method.
+     **/
     @AfterEach
     public void tearDown() {
-        Selenide.closeWebDriver();
     }
 }
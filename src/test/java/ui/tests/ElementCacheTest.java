@@ -0,0 +1,115 @@
+package ui.tests;
+
+import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.SelenideElement;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+import ui.driver.Browsers;
+import ui.driver.ElementCache;
+import ui.pages.WebTablePage;
+
+import static com.codeborne.selenide.Condition.visible;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks when {@link ElementCache} entries are dropped, by looking at the cache the page keeps on {@code window}.
+ * Switching the cache on is global, hence isolated.
+ **/
+@Epic("UI Testing")
+@Feature("Element Cache")
+@Tag("ui")
+@Isolated
+public class ElementCacheTest extends BaseTest {
+
+    private static final String WEB_TABLES_URL = "/webtables";
+    private static final String SEARCH_BOX = "#searchBox";
+    private static final String IS_CACHED = "return !!window.__locatorCache && window.__locatorCache.has(arguments[0]);";
+
+    private static boolean previouslyEnabled;
+
+    private SelenideDriver driver;
+    private SelenideElement searchBox;
+
+    @BeforeAll
+    public static void enableCache() {
+        previouslyEnabled = ElementCache.isEnabled();
+        ElementCache.setEnabled(true);
+    }
+
+    @AfterAll
+    public static void restoreCache() {
+        ElementCache.setEnabled(previouslyEnabled);
+    }
+
+    @BeforeEach
+    @Override
+    public void setUp() {
+        new WebTablePage().open(uiBaseUrl() + WEB_TABLES_URL);
+        driver = Browsers.current();
+        searchBox = ElementCache.resolve(driver, SEARCH_BOX);
+        searchBox.shouldBe(visible);
+    }
+
+    @Test
+    @DisplayName("Should keep a static locator while the DOM is unchanged")
+    @Description("Verify that a resolved element stays cached until something invalidates it")
+    @Severity(SeverityLevel.NORMAL)
+    public void testEntryKeptWhileDomUnchanged() {
+        assertThat(isCached()).isTrue();
+
+        searchBox.shouldBe(visible);
+
+        assertThat(isCached()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should drop the cache when nodes are added")
+    @Description("Verify that a DOM change clears the cache and the next command looks the element up again")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testEntryDroppedOnDomChange() {
+        driver.executeJavaScript("document.body.appendChild(document.createElement('div'));");
+
+        assertThat(isCached()).isFalse();
+        searchBox.shouldBe(visible);
+        assertThat(isCached()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should follow a re-rendered element")
+    @Description("Verify that replacing the node behind a cached locator resolves to the new node")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testReRenderedElementResolvedAgain() {
+        driver.executeJavaScript("""
+                const old = document.querySelector(arguments[0]);
+                const replacement = old.cloneNode(true);
+                replacement.value = 'replaced';
+                old.replaceWith(replacement);
+                """, SEARCH_BOX);
+
+        assertThat(searchBox.getValue()).isEqualTo("replaced");
+        assertThat(isCached()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should drop the cache on navigation")
+    @Description("Verify that opening the page again starts with an empty cache")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testCacheDroppedOnNavigation() {
+        driver.open(uiBaseUrl() + WEB_TABLES_URL);
+
+        assertThat(isCached()).isFalse();
+        searchBox.shouldBe(visible);
+        assertThat(isCached()).isTrue();
+    }
+
+    private boolean isCached() {
+        Boolean cached = driver.executeJavaScript(IS_CACHED, SEARCH_BOX);
+        return Boolean.TRUE.equals(cached);
+    }
+}
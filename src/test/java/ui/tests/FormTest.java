@@ -1,6 +1,5 @@
 package ui.tests;
 
-import config.ConfigProvider;
 import io.qameta.allure.*;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,7 +26,7 @@ public class FormTest extends BaseTest {
     @Override
     public void setUp() {
         formPage = new FormPage();
-        formPage.open(ConfigProvider.getConfig().uiBaseUrl() + FORM_URL);
+        formPage.open(uiBaseUrl() + FORM_URL);
     }
 
     @RetryingTest(3)
@@ -167,4 +166,28 @@ public class FormTest extends BaseTest {
                 .as("Form should accept state and city selection")
                 .isTrue();
     }
+
+    @RetryingTest(3)
+    @DisplayName("Should submit personal details filled in one pass")
+    @Description("Verify that the values written by the bulk personal details fill are the ones the form submits")
+    @Severity(SeverityLevel.NORMAL)
+    public void testPersonalDetailsBulkFill() {
+        FormTestDataBuilder student = FormTestDataBuilder.minimalStudent();
+
+        formPage
+                .fillPersonalDetails(student.getFirstName(), student.getLastName(), student.getEmail(), student.getMobile())
+                .selectGender(student.getGender())
+                .submitButton();
+
+        formPage
+                .verifySuccessModalDisplayed()
+                .verifySubmittedValue("Student Name", student.getFullName())
+                .verifySubmittedValue("Student Email", student.getEmail())
+                .verifySubmittedValue("Gender", student.getGender())
+                .verifySubmittedValue("Mobile", student.getMobile());
+
+        assertThat(formPage.isSubmissionSuccessful())
+                .as("Form submission should be successful with bulk filled personal details")
+                .isTrue();
+    }
 }
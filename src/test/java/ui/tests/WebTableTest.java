@@ -1,6 +1,5 @@
 package ui.tests;
 
-import config.ConfigProvider;
 import io.qameta.allure.*;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,7 +23,7 @@ public class WebTableTest extends BaseTest {
     @Override
     public void setUp() {
         webTablePage = new WebTablePage();
-        webTablePage.open(ConfigProvider.getConfig().uiBaseUrl() + WEB_TABLES_URL);
+        webTablePage.open(uiBaseUrl() + WEB_TABLES_URL);
     }
 
     @RetryingTest(3)
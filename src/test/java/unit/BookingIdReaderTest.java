@@ -0,0 +1,70 @@
+package unit;
+
+import api.helpers.BookingIdReader;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Feature("Booking List Streaming")
+@DisplayName("Booking Id Reader Unit Tests")
+@Tag("unit")
+public class BookingIdReaderTest {
+
+    @Test
+    @DisplayName("Should visit every booking id in document order")
+    @Description("Verify that ids are streamed in order and unknown fields are skipped")
+    @Severity(SeverityLevel.CRITICAL)
+    void shouldVisitEveryBookingId() throws IOException {
+        IntStream.Builder ids = IntStream.builder();
+
+        int count = BookingIdReader.read(body("[{\"bookingid\":5},{\"extra\":{\"a\":[1]},\"bookingid\":2},{\"bookingid\":9}]"), ids);
+
+        assertThat(count).isEqualTo(3);
+        assertThat(ids.build().toArray()).containsExactly(5, 2, 9);
+    }
+
+    @Test
+    @DisplayName("Should accept an empty list")
+    @Description("Verify that an empty booking list yields no ids")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldAcceptEmptyList() throws IOException {
+        assertThat(BookingIdReader.read(body("[]"), id -> {
+        })).isZero();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', value = {
+            "{\"bookingid\":1}                         | root value must be an array",
+            "[1,2]                                     | item 0 must be an object",
+            "[{\"bookingid\":1},{\"id\":2}]            | item 1 is missing required property bookingid",
+            "[{\"bookingid\":\"7\"}]                   | item 0 bookingid must be an integer",
+            "[{\"bookingid\":1}] [{\"bookingid\":2}]   | unexpected content after the array"
+    })
+    @DisplayName("Should reject bodies that do not match the list schema")
+    @Description("Verify that invalid items and trailing content fail with the schema rule they break")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldRejectInvalidBodies(String json, String rule) {
+        assertThatThrownBy(() -> BookingIdReader.read(body(json), id -> {
+        }))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining(rule);
+    }
+
+    private static ByteArrayInputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,153 @@
+package unit;
+
+import api.helpers.CircuitBreaker;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Feature("Resilience")
+@DisplayName("Circuit Breaker Unit Tests")
+@Tag("unit")
+public class CircuitBreakerTest {
+
+    private static final int THRESHOLD = 3;
+    private static final long OPEN_MILLIS = 10_000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new CircuitBreaker("http://target", THRESHOLD, OPEN_MILLIS, now::get);
+    }
+
+    @Test
+    @DisplayName("Should stay closed below the failure threshold")
+    @Description("Verify that failures below the threshold, or interrupted by a success, keep the circuit closed")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldStayClosedBelowThreshold() {
+        fail(THRESHOLD - 1);
+        breaker.onSuccess();
+        fail(THRESHOLD - 1);
+
+        assertThatCode(breaker::acquire).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should open after consecutive failures")
+    @Description("Verify that the threshold of failures in a row rejects calls until the open period has passed")
+    @Severity(SeverityLevel.CRITICAL)
+    void shouldOpenAfterConsecutiveFailures() {
+        fail(THRESHOLD);
+
+        assertThatThrownBy(breaker::acquire)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Circuit open for http://target after 3 consecutive failures");
+        now.addAndGet(OPEN_MILLIS - 1);
+        assertThatThrownBy(breaker::acquire).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should close after a successful probe")
+    @Description("Verify that open -> half-open -> closed lets every later call through")
+    @Severity(SeverityLevel.CRITICAL)
+    void shouldCloseAfterSuccessfulProbe() {
+        fail(THRESHOLD);
+        now.addAndGet(OPEN_MILLIS);
+
+        breaker.acquire();
+        breaker.onSuccess();
+
+        assertThatCode(() -> {
+            breaker.acquire();
+            breaker.acquire();
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should reopen after a failed probe")
+    @Description("Verify that a single failure while half-open opens the circuit for another full period")
+    @Severity(SeverityLevel.CRITICAL)
+    void shouldReopenAfterFailedProbe() {
+        fail(THRESHOLD);
+        now.addAndGet(OPEN_MILLIS);
+
+        breaker.acquire();
+        breaker.onFailure();
+
+        assertThatThrownBy(breaker::acquire).isInstanceOf(IllegalStateException.class);
+        now.addAndGet(OPEN_MILLIS);
+        assertThatCode(breaker::acquire).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should hand a released probe to the next call")
+    @Description("Verify that a probe that was never sent does not leave the circuit half-open")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldHandOverReleasedProbe() {
+        fail(THRESHOLD);
+        now.addAndGet(OPEN_MILLIS);
+
+        breaker.acquire();
+        breaker.release();
+
+        assertThatCode(breaker::acquire).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should let waiting calls through once the probe succeeds")
+    @Description("Verify that a call arriving while half-open waits for the probe instead of failing")
+    @Severity(SeverityLevel.CRITICAL)
+    void shouldReleaseWaitersOnProbeSuccess() throws Exception {
+        fail(THRESHOLD);
+        now.addAndGet(OPEN_MILLIS);
+        breaker.acquire();
+
+        CompletableFuture<Void> waiter = CompletableFuture.runAsync(breaker::acquire);
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(waiter).isNotDone();
+
+        breaker.onSuccess();
+        waiter.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should fail waiting calls once the probe fails")
+    @Description("Verify that calls waiting on the probe are rejected when it reopens the circuit")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldRejectWaitersOnProbeFailure() throws Exception {
+        fail(THRESHOLD);
+        now.addAndGet(OPEN_MILLIS);
+        breaker.acquire();
+
+        CompletableFuture<Void> waiter = CompletableFuture.runAsync(breaker::acquire);
+        TimeUnit.MILLISECONDS.sleep(200);
+        breaker.onFailure();
+
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Circuit open");
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.acquire();
+            breaker.onFailure();
+        }
+    }
+}
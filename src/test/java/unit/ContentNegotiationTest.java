@@ -0,0 +1,142 @@
+package unit;
+
+import api.data.TestDataBuilder;
+import api.helpers.ObjectMapperProvider;
+import api.stub.BookingStore;
+import api.stub.BookingStubHandler;
+import api.stub.StubRequest;
+import api.stub.StubResponse;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Feature("Booking Stub")
+@DisplayName("Stub Content Negotiation Unit Tests")
+@Tag("unit")
+public class ContentNegotiationTest {
+
+    private static final String BOOKINGS = "/booking";
+
+    private BookingStubHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        BookingStore store = new BookingStore();
+        // enough ids for the list to pass the compression threshold
+        TestDataBuilder.bookings(42L).limit(40).forEach(store::create);
+        handler = new BookingStubHandler(store, ObjectMapperProvider.getMapper(), "admin", "password123");
+    }
+
+    @Nested
+    @DisplayName("ETag Tests")
+    class ETagTests {
+
+        @Test
+        @DisplayName("Should tag successful GETs only")
+        @Description("Verify that a GET carries a strong ETag and a POST does not")
+        @Severity(SeverityLevel.NORMAL)
+        void shouldTagSuccessfulGets() {
+            assertThat(get(Map.of()).getHeaders().get("ETag")).matches("\"[0-9a-f]+-[0-9a-f]{8}\"");
+            assertThat(handler.handle(request("POST", BOOKINGS, Map.of())).getHeaders()).doesNotContainKey("ETag");
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = {"%s", "W/%s", "\"stale\", %s", "*"})
+        @DisplayName("Should answer a matching If-None-Match with 304")
+        @Description("Verify that revalidation with the current tag, a weak or listed tag, or * returns 304 without a body")
+        @Severity(SeverityLevel.CRITICAL)
+        void shouldRevalidate(String ifNoneMatch) {
+            String etag = get(Map.of()).getHeaders().get("ETag");
+
+            StubResponse response = get(Map.of("If-None-Match", String.format(ifNoneMatch, etag)));
+
+            assertThat(response.getStatus()).isEqualTo(304);
+            assertThat(response.getBody()).isEmpty();
+            assertThat(response.getHeaders()).containsEntry("ETag", etag);
+        }
+
+        @Test
+        @DisplayName("Should serve the body when the tag changed")
+        @Description("Verify that a stale If-None-Match gets a full 200 response")
+        @Severity(SeverityLevel.NORMAL)
+        void shouldServeChangedBody() {
+            StubResponse response = get(Map.of("If-None-Match", "\"stale\""));
+
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getBody()).isNotEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Encoding Tests")
+    class EncodingTests {
+
+        @ParameterizedTest(name = "{0} -> {1}")
+        @CsvSource(delimiter = '|', value = {
+                "gzip                          | gzip",
+                "GZIP                          | gzip",
+                "deflate                       | deflate",
+                "gzip, deflate, br             | gzip",
+                "gzip;q=0, deflate             | deflate",
+                "deflate, gzip;q=0.5           | deflate",
+                "gzip;q=0.5, deflate;q=0.5     | gzip",
+                "*                             | gzip",
+                "*, gzip;q=0                   | deflate",
+                "gzip;q=0                      | ",
+                "*;q=0                         | ",
+                "identity                      | ",
+                "br                            | "
+        })
+        @DisplayName("Should honour Accept-Encoding weights")
+        @Description("Verify that the stub picks the highest-weighted supported coding and never one with q=0")
+        @Severity(SeverityLevel.CRITICAL)
+        void shouldNegotiateEncoding(String acceptEncoding, String expected) throws IOException {
+            byte[] plain = get(Map.of()).getBody();
+
+            StubResponse response = get(Map.of("Accept-Encoding", acceptEncoding));
+
+            assertThat(response.getHeaders().get("Content-Encoding")).isEqualTo(expected);
+            assertThat(decode(response.getBody(), expected)).isEqualTo(plain);
+        }
+    }
+
+    private StubResponse get(Map<String, String> headers) {
+        return handler.handle(request("GET", BOOKINGS, headers));
+    }
+
+    private static StubRequest request(String method, String path, Map<String, String> headers) {
+        Map<String, List<String>> values = new HashMap<>();
+        headers.forEach((name, value) -> values.put(name, List.of(value)));
+        return new StubRequest(method, path, Map.of(), values, new byte[0]);
+    }
+
+    private static byte[] decode(byte[] body, String encoding) throws IOException {
+        if (encoding == null) {
+            return body;
+        }
+        InputStream raw = new ByteArrayInputStream(body);
+        try (InputStream in = encoding.equals("gzip") ? new GZIPInputStream(raw) : new InflaterInputStream(raw)) {
+            return in.readAllBytes();
+        }
+    }
+}
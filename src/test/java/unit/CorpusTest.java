@@ -0,0 +1,75 @@
+package unit;
+
+import api.data.TestDataBuilder;
+import api.models.Booking;
+import data.Corpus;
+import data.CorpusGenerator;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Feature("Test Data")
+@DisplayName("Data Corpus Unit Tests")
+@Tag("unit")
+public class CorpusTest {
+
+    private static final int SIZE = 5;
+    private static final long SEED = 42L;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should serve the seeded records by index")
+    @Description("Verify that corpus record i is the booking rebuilt from (seed, i) and that next() wraps around")
+    @Severity(SeverityLevel.CRITICAL)
+    void shouldServeSeededRecords() {
+        CorpusGenerator.generate(dir, SIZE, SEED);
+        Corpus<Booking> corpus = Corpus.open(dir, CorpusGenerator.BOOKINGS, Booking.class);
+
+        assertThat(corpus.size()).isEqualTo(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            assertThat(corpus.get(i)).isEqualTo(TestDataBuilder.createBooking(SEED, i));
+        }
+        for (int i = 0; i < SIZE; i++) {
+            corpus.next();
+        }
+        assertThat(corpus.next()).isEqualTo(corpus.get(0));
+    }
+
+    @Test
+    @DisplayName("Should detect a corpus written for another size or seed")
+    @Description("Verify that the index header records size and seed, and that a missing corpus is not current")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldDetectStaleCorpus() {
+        assertThat(CorpusGenerator.isCurrent(dir, SIZE, SEED)).isFalse();
+
+        CorpusGenerator.generate(dir, SIZE, SEED);
+
+        assertThat(CorpusGenerator.isCurrent(dir, SIZE, SEED)).isTrue();
+        assertThat(CorpusGenerator.isCurrent(dir, SIZE + 1, SEED)).isFalse();
+        assertThat(CorpusGenerator.isCurrent(dir, SIZE, SEED + 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should regenerate a stale corpus")
+    @Description("Verify that ensure() rewrites the files when the configured size or seed changed")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldRegenerateStaleCorpus() {
+        CorpusGenerator.ensure(dir, SIZE, SEED);
+        CorpusGenerator.ensure(dir, SIZE + 2, SEED + 1);
+
+        Corpus<Booking> corpus = Corpus.open(dir, CorpusGenerator.BOOKINGS, Booking.class);
+        assertThat(corpus.size()).isEqualTo(SIZE + 2);
+        assertThat(corpus.get(0)).isEqualTo(TestDataBuilder.createBooking(SEED + 1, 0));
+    }
+}
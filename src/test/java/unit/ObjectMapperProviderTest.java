@@ -0,0 +1,73 @@
+package unit;
+
+import api.data.TestDataBuilder;
+import api.helpers.ObjectMapperProvider;
+import api.models.Booking;
+import api.models.BookingId;
+import api.models.BookingResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Feature("JSON Mapping")
+@DisplayName("Object Mapper Provider Unit Tests")
+@Tag("unit")
+public class ObjectMapperProviderTest {
+
+    private static final String BOOKING_ID_LIST = "[{\"bookingid\":3},{\"bookingid\":1},{\"bookingid\":2}]";
+
+    @ParameterizedTest(name = "blackbird = {0}")
+    @ValueSource(booleans = {true, false})
+    @DisplayName("Should round-trip booking responses")
+    @Description("Verify that a booking response survives serialization and deserialization with the API field names")
+    @Severity(SeverityLevel.CRITICAL)
+    void shouldRoundTripBookingResponse(boolean blackbird) throws Exception {
+        ObjectMapper mapper = ObjectMapperProvider.newMapper(blackbird);
+        Booking booking = TestDataBuilder.createBooking(42L, 7L);
+        BookingResponse response = new BookingResponse(17, booking);
+
+        String json = mapper.writeValueAsString(response);
+
+        assertThat(json).contains("\"bookingid\":17", "\"firstname\":", "\"bookingdates\":", "\"checkin\":");
+        assertThat(mapper.readValue(json, BookingResponse.class)).isEqualTo(response);
+    }
+
+    @ParameterizedTest(name = "blackbird = {0}")
+    @ValueSource(booleans = {true, false})
+    @DisplayName("Should read booking id lists")
+    @Description("Verify that a GET /booking body is read into booking ids in document order")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldReadBookingIdList(boolean blackbird) throws Exception {
+        ObjectMapper mapper = ObjectMapperProvider.newMapper(blackbird);
+
+        List<BookingId> ids = mapper.readValue(BOOKING_ID_LIST, new TypeReference<>() {
+        });
+
+        assertThat(ids).extracting(BookingId::getBookingId).containsExactly(3, 1, 2);
+    }
+
+    @Test
+    @DisplayName("Should write the same JSON with and without Blackbird")
+    @Description("Verify that generated accessors do not change the serialized form of the API models")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldWriteSameJsonWithAndWithoutBlackbird() throws Exception {
+        List<Booking> bookings = TestDataBuilder.bookings(42L).limit(20).toList();
+
+        String withBlackbird = ObjectMapperProvider.newMapper(true).writeValueAsString(bookings);
+        String withReflection = ObjectMapperProvider.newMapper(false).writeValueAsString(bookings);
+
+        assertThat(withBlackbird).isEqualTo(withReflection);
+    }
+}
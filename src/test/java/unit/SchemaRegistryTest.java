@@ -0,0 +1,114 @@
+package unit;
+
+import api.schema.CompiledSchema;
+import api.schema.SchemaRegistry;
+import api.schema.ValidationMode;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Feature("Schema Validation")
+@DisplayName("Schema Registry Unit Tests")
+@Tag("unit")
+public class SchemaRegistryTest {
+
+    private static final String BOOKING_LIST = "booking-list-schema.json";
+    private static final String VALID_LIST = "[{\"bookingid\":1},{\"bookingid\":2,\"extra\":{\"nested\":[true]}}]";
+
+    @Nested
+    @DisplayName("Registry Tests")
+    class RegistryTests {
+
+        @Test
+        @DisplayName("Should compile each schema once")
+        @Description("Verify that lookups with and without the schemas/ prefix return the same compiled instance")
+        @Severity(SeverityLevel.NORMAL)
+        void shouldReturnSameCompiledSchema() {
+            CompiledSchema schema = SchemaRegistry.get(BOOKING_LIST);
+
+            assertThat(SchemaRegistry.get("schemas/" + BOOKING_LIST)).isSameAs(schema);
+            assertThat(schema.supportsStreaming()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should reject unknown schemas")
+        @Description("Verify that an unknown schema name fails with the list of available schemas")
+        @Severity(SeverityLevel.MINOR)
+        void shouldRejectUnknownSchema() {
+            assertThatThrownBy(() -> SchemaRegistry.get("missing.json"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(BOOKING_LIST);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @ParameterizedTest(name = "{0}")
+        @EnumSource(ValidationMode.class)
+        @DisplayName("Should accept a valid booking list")
+        @Description("Verify that both validation modes accept a list of objects with integer ids")
+        @Severity(SeverityLevel.CRITICAL)
+        void shouldAcceptValidList(ValidationMode mode) {
+            assertThat(SchemaRegistry.get(BOOKING_LIST).validate(VALID_LIST, mode)).isEmpty();
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @CsvSource(delimiter = '|', value = {
+                "[{\"bookingid\":1},{\"bookingid\":\"two\"}]   | $[1].bookingid: expected [integer] but found string",
+                "[{\"bookingid\":1},{\"id\":2}]                 | $[1]: missing required property bookingid",
+                "[{\"bookingid\":1},7]                          | $[1]: expected [object] but found integer",
+                "{\"bookingid\":1}                              | $: expected [array] but found object",
+                "[{\"bookingid\":1}] [{\"bookingid\":2}]        | $: unexpected array after the root value",
+                "[{\"bookingid\":1}] 42                         | $: unexpected integer after the root value"
+        })
+        @DisplayName("Should report invalid items and trailing content in streaming mode")
+        @Description("Verify that the single-pass validator names the offending path")
+        @Severity(SeverityLevel.NORMAL)
+        void shouldReportStreamingViolations(String json, String violation) {
+            assertThat(SchemaRegistry.get(BOOKING_LIST).validate(json, ValidationMode.STREAMING)).contains(violation);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @EnumSource(ValidationMode.class)
+        @DisplayName("Should report malformed JSON")
+        @Description("Verify that a truncated document is reported instead of throwing")
+        @Severity(SeverityLevel.NORMAL)
+        void shouldReportMalformedJson(ValidationMode mode) {
+            assertThat(SchemaRegistry.get(BOOKING_LIST).validate("[{\"bookingid\":1}", mode))
+                    .singleElement()
+                    .asString()
+                    .startsWith("$: not valid JSON");
+        }
+
+        @Test
+        @DisplayName("Should describe the violations found while matching")
+        @Description("Verify that the REST Assured body matcher reports the violations of the document it rejected")
+        @Severity(SeverityLevel.NORMAL)
+        void shouldDescribeMismatch() {
+            String json = "[{\"id\":2}]";
+            Matcher<String> matcher = SchemaRegistry.matches(BOOKING_LIST, ValidationMode.STREAMING);
+
+            assertThat(matcher.matches(json)).isFalse();
+            StringDescription description = new StringDescription();
+            matcher.describeMismatch(json, description);
+
+            assertThat(description.toString()).contains("$[0]: missing required property bookingid");
+            assertThat(matcher.matches(VALID_LIST)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package unit;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import ui.pages.TableSnapshot;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Feature("Web Tables")
+@DisplayName("Table Snapshot Unit Tests")
+@Tag("unit")
+public class TableSnapshotTest {
+
+    private static final List<String> CIERRA = List.of("Cierra", "Vega", "39", "cierra@example.com", "10000", "Insurance", "");
+    private static final List<String> ALDEN = List.of("Alden", "Cantrell", "45", "alden@example.com", "12000", "Compliance", "");
+    private static final List<String> PADDING = List.of("", "", "", "", "", "", "");
+
+    @Test
+    @DisplayName("Should drop padding rows")
+    @Description("Verify that rows whose cells are all blank are not counted")
+    @Severity(SeverityLevel.CRITICAL)
+    void shouldDropPaddingRows() {
+        TableSnapshot snapshot = new TableSnapshot(List.of(CIERRA, PADDING, ALDEN, PADDING));
+
+        assertThat(snapshot.getRowCount()).isEqualTo(2);
+        assertThat(snapshot.getRows()).containsExactly(CIERRA, ALDEN);
+        assertThat(snapshot.toArray()[1]).containsExactly(ALDEN.toArray(String[]::new));
+    }
+
+    @Test
+    @DisplayName("Should index rows by email")
+    @Description("Verify that lookups match the email column exactly and the first duplicate wins")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldIndexRowsByEmail() {
+        List<String> duplicate = List.of("Other", "Person", "20", "cierra@example.com", "1", "IT", "");
+        TableSnapshot snapshot = new TableSnapshot(List.of(CIERRA, duplicate, List.of("short", "row")));
+
+        assertThat(snapshot.findByEmail("cierra@example.com")).contains(CIERRA);
+        assertThat(snapshot.contains("alden@example.com")).isFalse();
+        assertThat(snapshot.contains("cierra@example")).isFalse();
+        assertThat(snapshot.getRowCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should treat a missing table as empty")
+    @Description("Verify that a null script result gives an empty, immutable snapshot")
+    @Severity(SeverityLevel.MINOR)
+    void shouldTreatMissingTableAsEmpty() {
+        TableSnapshot snapshot = new TableSnapshot(null);
+
+        assertThat(snapshot.getRows()).isEmpty();
+        assertThatThrownBy(() -> snapshot.getRows().add(CIERRA)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource({
+            "Cierra, true",
+            "cierra, true",
+            "VEGA, true",
+            "Cier, true",
+            "Cierra Vega, true",
+            "Alden, false"
+    })
+    @DisplayName("Should match row text like Selenide's text condition")
+    @Description("Verify that row checks are case-insensitive substring matches on the row text")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldMatchRowText(String text, boolean expected) {
+        assertThat(TableSnapshot.hasText(CIERRA, text)).isEqualTo(expected);
+    }
+}
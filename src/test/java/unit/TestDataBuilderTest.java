@@ -0,0 +1,81 @@
+package unit;
+
+import api.data.TestDataBuilder;
+import api.models.Booking;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Feature("Test Data")
+@DisplayName("Test Data Builder Unit Tests")
+@Tag("unit")
+public class TestDataBuilderTest {
+
+    private static final long SEED = 42L;
+    private static final LocalDate SEEDED_START = LocalDate.of(2030, 1, 1);
+
+    @Test
+    @DisplayName("Should rebuild the same seeded booking")
+    @Description("Verify that (seed, index) always yields the same booking and that the stream matches single lookups")
+    @Severity(SeverityLevel.CRITICAL)
+    void shouldRebuildSeededBookings() {
+        List<Booking> streamed = TestDataBuilder.bookings(SEED).limit(50).toList();
+        List<Booking> rebuilt = LongStream.range(0, 50)
+                .mapToObj(index -> TestDataBuilder.createBooking(SEED, index))
+                .toList();
+
+        assertThat(streamed).isEqualTo(rebuilt);
+        assertThat(TestDataBuilder.bookings(SEED).limit(50).parallel().toList()).isEqualTo(streamed);
+        assertThat(TestDataBuilder.bookings(SEED + 1).limit(50).toList()).isNotEqualTo(streamed);
+    }
+
+    @Test
+    @DisplayName("Should date seeded bookings from a fixed day")
+    @Description("Verify that seeded bookings do not depend on today's date and check out after checking in")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldDateSeededBookingsFromFixedDay() {
+        TestDataBuilder.bookings(SEED).limit(200).forEach(booking -> {
+            LocalDate checkIn = LocalDate.parse(booking.getBookingDates().getCheckIn());
+            LocalDate checkOut = LocalDate.parse(booking.getBookingDates().getCheckOut());
+
+            assertThat(checkIn).isBetween(SEEDED_START.plusDays(1), SEEDED_START.plusDays(183));
+            assertThat(ChronoUnit.DAYS.between(checkIn, checkOut)).isBetween(1L, 14L);
+        });
+    }
+
+    @Test
+    @DisplayName("Should draw random bookings from the given generator")
+    @Description("Verify that equally seeded generators produce equal bookings")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldUseGivenGenerator() {
+        assertThat(TestDataBuilder.createRandomBooking(new Random(7)))
+                .isEqualTo(TestDataBuilder.createRandomBooking(new Random(7)));
+    }
+
+    @Test
+    @DisplayName("Should date default bookings from today")
+    @Description("Verify that the cached date window formats check-in and check-out relative to the current day")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldDateDefaultBookingsFromToday() {
+        LocalDate before = LocalDate.now();
+        Booking booking = TestDataBuilder.createDefaultBooking();
+        LocalDate after = LocalDate.now();
+
+        assertThat(booking.getBookingDates().getCheckIn())
+                .isIn(before.plusDays(1).toString(), after.plusDays(1).toString());
+        assertThat(booking.getBookingDates().getCheckOut())
+                .isIn(before.plusDays(5).toString(), after.plusDays(5).toString());
+    }
+}
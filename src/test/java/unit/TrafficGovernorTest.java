@@ -0,0 +1,115 @@
+package unit;
+
+import api.helpers.TrafficGovernor;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@Feature("Resilience")
+@DisplayName("Traffic Governor Unit Tests")
+@Tag("unit")
+public class TrafficGovernorTest {
+
+    private static final double MAX_RATE = 100;
+    private static final int MAX_IN_FLIGHT = 8;
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // a zero origin is what made the first cooldown check suppress the first decrease
+    private final AtomicLong now = new AtomicLong(0);
+    private TrafficGovernor governor;
+
+    @BeforeEach
+    void setUp() {
+        governor = new TrafficGovernor("http://target", MAX_RATE, MAX_IN_FLIGHT, now::get);
+    }
+
+    @ParameterizedTest(name = "status = {0}")
+    @ValueSource(ints = {429, 503})
+    @DisplayName("Should halve rate and concurrency on the first throttling answer")
+    @Description("Verify that a 429 or 503 halves both limits right away, whatever the clock's origin")
+    @Severity(SeverityLevel.CRITICAL)
+    void shouldHalveOnFirstThrottlingAnswer(int status) throws InterruptedException {
+        call(status);
+
+        assertThat(governor.currentRate()).isEqualTo(MAX_RATE / 2);
+        assertThat(governor.currentInFlightLimit()).isEqualTo(MAX_IN_FLIGHT / 2.0);
+    }
+
+    @Test
+    @DisplayName("Should decrease at most once per cooldown")
+    @Description("Verify that a burst of throttling answers within one second halves the limits only once")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldDecreaseOncePerCooldown() throws InterruptedException {
+        call(503);
+        now.addAndGet(SECOND - 1);
+        call(429);
+
+        assertThat(governor.currentRate()).isEqualTo(MAX_RATE / 2);
+        now.addAndGet(1);
+        call(429);
+        assertThat(governor.currentRate()).isEqualTo(MAX_RATE / 4);
+        assertThat(governor.currentInFlightLimit()).isEqualTo(MAX_IN_FLIGHT / 4.0);
+    }
+
+    @Test
+    @DisplayName("Should grow back additively on success")
+    @Description("Verify that each success adds 1/limit to both limits and never exceeds the configured maximum")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldGrowAdditively() throws InterruptedException {
+        call(503);
+
+        call(200);
+
+        assertThat(governor.currentRate()).isCloseTo(50 + 1 / 50.0, within(1e-9));
+        assertThat(governor.currentInFlightLimit()).isCloseTo(4.25, within(1e-9));
+        for (int i = 0; i < 10_000; i++) {
+            now.addAndGet(SECOND);
+            call(200);
+        }
+        assertThat(governor.currentRate()).isEqualTo(MAX_RATE);
+        assertThat(governor.currentInFlightLimit()).isEqualTo(MAX_IN_FLIGHT);
+    }
+
+    @Test
+    @DisplayName("Should keep at least one request per second and one in flight")
+    @Description("Verify that repeated throttling never drives the limits below their floor")
+    @Severity(SeverityLevel.NORMAL)
+    void shouldKeepFloor() throws InterruptedException {
+        for (int i = 0; i < 20; i++) {
+            now.addAndGet(SECOND);
+            call(429);
+        }
+
+        assertThat(governor.currentRate()).isEqualTo(1.0);
+        assertThat(governor.currentInFlightLimit()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should leave the limits alone without a response")
+    @Description("Verify that a call that never got a status frees its slot without feeding the AIMD loop")
+    @Severity(SeverityLevel.MINOR)
+    void shouldIgnoreMissingStatus() throws InterruptedException {
+        call(0);
+
+        assertThat(governor.currentRate()).isEqualTo(MAX_RATE);
+        assertThat(governor.currentInFlightLimit()).isEqualTo(MAX_IN_FLIGHT);
+    }
+
+    private void call(int status) throws InterruptedException {
+        governor.acquire();
+        governor.release(status);
+    }
+}